@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.api.assertions;
+
+import java.util.concurrent.TimeUnit;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JSON evaluation cost of ApiAssertions on large response bodies
+ * (each assertion parses the body again through {@code response.jsonPath()}).
+ *
+ * <ul>
+ *   <li>{@code statusCode}: no body parsing, reference point</li>
+ *   <li>{@code jsonIntEquals_first} / {@code jsonIntEquals_last}: path into the first/last array item</li>
+ * </ul>
+ *
+ * Run with: {@code ./gradlew jmh -Pjmh.include=ApiAssertionsBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiAssertionsBenchmark {
+
+    /** Number of user objects in the response body. */
+    @Param({"100", "10000"})
+    public int users;
+
+    private Response response;
+    private String lastItemPath;
+
+    @Setup
+    public void buildResponse() {
+        StringBuilder body = new StringBuilder("{\"page\":1,\"total\":").append(users).append(",\"data\":[");
+        for (int i = 0; i < users; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"id\":").append(i)
+                .append(",\"email\":\"user").append(i).append("@example.com\"")
+                .append(",\"first_name\":\"First").append(i).append('"')
+                .append(",\"last_name\":\"Last").append(i).append('"')
+                .append(",\"roles\":[\"reader\",\"writer\"]}");
+        }
+        body.append("]}");
+        response = new ResponseBuilder()
+            .setStatusCode(200)
+            .setContentType("application/json")
+            .setBody(body.toString())
+            .build();
+        lastItemPath = "data[" + (users - 1) + "].id";
+    }
+
+    @Benchmark
+    public void statusCode() {
+        ApiAssertions.assertStatusCode(response, 200);
+    }
+
+    @Benchmark
+    public void jsonIntEquals_first() {
+        ApiAssertions.assertJsonIntEquals(response, "data[0].id", 0);
+    }
+
+    @Benchmark
+    public void jsonIntEquals_last() {
+        ApiAssertions.assertJsonIntEquals(response, lastItemPath, users - 1);
+    }
+}
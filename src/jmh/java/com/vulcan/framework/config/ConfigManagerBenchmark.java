@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.config;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Configuration reads done by pages, clients and hooks (from the immutable snapshot).
+ *
+ * Run with: {@code ./gradlew jmh -Pjmh.include=ConfigManagerBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigManagerBenchmark {
+
+    @Setup
+    public void configure() {
+        System.setProperty("ui.baseUrl", "http://localhost");
+        System.setProperty("api.baseUrl", "http://localhost");
+        ConfigManager.getInstance().reload();
+    }
+
+    @Benchmark
+    public String get() {
+        return ConfigManager.getInstance().get("ui.baseUrl");
+    }
+
+    @Benchmark
+    public int intValue() {
+        return ConfigManager.getInstance().intValue("api.timeout");
+    }
+
+    @Benchmark
+    public Duration duration() {
+        return ConfigManager.getInstance().duration("teardown.timeout", ChronoUnit.SECONDS);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.shared.auth;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Role name -> credentials resolution used by login steps.
+ *
+ * Run with: {@code ./gradlew jmh -Pjmh.include=CredentialsBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CredentialsBenchmark {
+
+    /** First and last declared roles (best/worst case of the linear scan); lookups are case-insensitive. */
+    @Param({"STANDARD", "performance"})
+    public String role;
+
+    @Benchmark
+    public Credentials byRole() {
+        return Credentials.byRole(role);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.shared.context;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ApiClientRegistry.get on the hot path: the client already exists in the registry.
+ * Uses a plain object as "client" so only the registry lookup is measured.
+ *
+ * Run with: {@code ./gradlew jmh -Pjmh.include=ApiClientRegistryBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiClientRegistryBenchmark {
+
+    /** Stand-in client type. */
+    public static final class StubClient {
+    }
+
+    private ApiClientRegistry registry;
+
+    @Setup
+    public void createRegistry() {
+        registry = new ApiClientRegistry();
+        registry.get(StubClient.class, StubClient::new);
+    }
+
+    @Benchmark
+    public StubClient getExisting() {
+        return registry.get(StubClient.class, StubClient::new);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.shared.context;
+
+import com.vulcan.framework.api.client.UserApiClient;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of acquiring an API client from a step.
+ *
+ * <ul>
+ *   <li>{@code scenarioScope_firstAcquire}: what every scenario paid before scoped clients
+ *       (fresh registry, so the client is built: config reads + RestAssured config/spec).</li>
+ *   <li>{@code threadScope} / {@code suiteScope}: steady-state lookups once the client exists.</li>
+ * </ul>
+ *
+ * Run with: {@code ./gradlew jmh -Pjmh.include=ApiClientsBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiClientsBenchmark {
+
+    @Setup(Level.Trial)
+    public void configure() {
+        // Clients read these on construction; no request is ever sent.
+        // ui.baseUrl is not used here, but ConfigManager requires every base URL.
+        System.setProperty("ui.baseUrl", "http://localhost");
+        System.setProperty("api.baseUrl", "http://localhost");
+        System.setProperty("api.timeout", "5000");
+    }
+
+    @TearDown(Level.Iteration)
+    public void resetScenario() {
+        ScenarioContext.clear();
+    }
+
+    @Benchmark
+    public UserApiClient scenarioScope_firstAcquire() {
+        ScenarioContext.clear();
+        return ApiClients.get(UserApiClient.class, ClientScope.SCENARIO, UserApiClient::new);
+    }
+
+    @Benchmark
+    public UserApiClient threadScope() {
+        return ApiClients.get(UserApiClient.class, ClientScope.THREAD, UserApiClient::new);
+    }
+
+    @Benchmark
+    public UserApiClient suiteScope() {
+        return ApiClients.get(UserApiClient.class, ClientScope.SUITE, UserApiClient::new);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.shared.context;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Registering and running cleanup actions at scale (no-op actions, so this measures
+ * the registry itself: stack operations, per-action logging and JFR hooks).
+ *
+ * Run with: {@code ./gradlew jmh -Pjmh.include=DataRegistryBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataRegistryBenchmark {
+
+    @Param({"10", "1000"})
+    public int actions;
+
+    @Benchmark
+    public int registerAndCleanup(Blackhole blackhole) {
+        DataRegistry registry = new DataRegistry();
+        for (int i = 0; i < actions; i++) {
+            int id = i;
+            registry.registerCleanup("deleteUser:" + id, () -> blackhole.consume(id));
+        }
+        int registered = registry.size();
+        registry.cleanupAll();
+        return registered;
+    }
+}
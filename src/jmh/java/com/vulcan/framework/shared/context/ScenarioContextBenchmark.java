@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.shared.context;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ScenarioContext is hit by almost every step (credentials, responses, registries).
+ *
+ * <ul>
+ *   <li>{@code get}: typed lookup of an existing key</li>
+ *   <li>{@code putGet}: store then read back</li>
+ *   <li>{@code scenarioLifecycle}: a typical scenario's worth of puts followed by clear()</li>
+ * </ul>
+ *
+ * Run with: {@code ./gradlew jmh -Pjmh.include=ScenarioContextBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScenarioContextBenchmark {
+
+    private final Object value = new Object();
+
+    @Setup
+    public void seed() {
+        ScenarioContext.clear();
+        ScenarioContext.put(ScenarioKeys.AUTH_TOKEN, "token");
+    }
+
+    @Benchmark
+    public String get() {
+        return ScenarioContext.get(ScenarioKeys.AUTH_TOKEN, String.class);
+    }
+
+    @Benchmark
+    public Object putGet() {
+        ScenarioContext.put(ScenarioKeys.CREATED_USER_ID, value);
+        return ScenarioContext.get(ScenarioKeys.CREATED_USER_ID, Object.class);
+    }
+
+    @Benchmark
+    public void scenarioLifecycle() {
+        ScenarioContext.put(ScenarioKeys.CREDENTIALS, value);
+        ScenarioContext.put(ScenarioKeys.AUTH_TOKEN, "token");
+        ScenarioContext.put(ScenarioKeys.LAST_API_RESPONSE, value);
+        ScenarioContext.getOrCreate(ScenarioKeys.DATA_REGISTRY, DataRegistry.class, DataRegistry::new);
+        ScenarioContext.clear();
+    }
+}
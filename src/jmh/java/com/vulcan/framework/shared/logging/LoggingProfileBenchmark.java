@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.shared.logging;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Step latency under 8 parallel scenario threads with each logging setup.
+ *
+ * A "step" is what a typical UI step logs (5 parameterized INFO lines, as ElementActions does)
+ * around a small amount of work standing in for the step's own code (driver round trips excluded).
+ *
+ * <ul>
+ *   <li>{@code synchronous}: synchronous appender with immediate flush, like the Console appender
+ *       (written to a file here, so the benchmark output stays readable)</li>
+ *   <li>{@code perfProfile}: log4j2-perf.xml with the system properties of {@code -Plogging=perf},
+ *       except the queue-full policy: it keeps the default (block until the ring has room), so both
+ *       variants write every line and the async side cannot win by discarding</li>
+ * </ul>
+ *
+ * Sample mode reports the latency distribution (p50/p99/p99.99): contention shows up in the tail.
+ * Log files: build/tmp/jmh-logging.
+ *
+ * Run with: {@code ./gradlew jmh -Pjmh.include=LoggingProfileBenchmark}
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+public class LoggingProfileBenchmark {
+
+    private static final Logger logger = LogManager.getLogger(LoggingProfileBenchmark.class);
+
+    private static final int LINES_PER_STEP = 5;
+    private static final long WORK_PER_LINE = 200;
+
+    private static final String ELEMENT = "Login button";
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {
+        "-Dlog4j2.configurationFile=log4j2-bench-sync.xml",
+        "-Dvulcan.log.dir=build/tmp/jmh-logging"
+    })
+    public void synchronous() {
+        step();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {
+        // Keep in sync with perfLoggingProperties in build.gradle (minus the Discard queue-full policy)
+        "-Dlog4j2.configurationFile=log4j2-perf.xml",
+        "-Dlog4j2.messageFactory=org.apache.logging.log4j.message.ReusableMessageFactory",
+        "-Dvulcan.log.dir=build/tmp/jmh-logging"
+    })
+    public void perfProfile() {
+        step();
+    }
+
+    private static void step() {
+        for (int i = 0; i < LINES_PER_STEP; i++) {
+            logger.info("UI ACTION | click | element='{}' | attempt={}", ELEMENT, i);
+            Blackhole.consumeCPU(WORK_PER_LINE);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.ui.actions;
+
+import com.vulcan.framework.core.WaitUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Framework overhead of one UI action (logging, name masking, explicit wait, timings/JFR)
+ * against a stub driver whose commands return immediately. Real actions add the driver round trip.
+ *
+ * <ul>
+ *   <li>{@code baseline}: the driver commands alone, without ElementActions</li>
+ *   <li>{@code click} / {@code type} / {@code getText}: the same commands through ElementActions</li>
+ * </ul>
+ *
+ * Run with: {@code ./gradlew jmh -Pjmh.include=ElementActionsBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ElementActionsBenchmark {
+
+    private WebElement element;
+    private ElementActions actions;
+
+    @Setup
+    public void createStubs() {
+        // ElementActions reads ui.* settings through ConfigManager, which requires every base URL
+        System.setProperty("ui.baseUrl", "http://localhost");
+        System.setProperty("api.baseUrl", "http://localhost");
+        element = stub(WebElement.class);
+        actions = new ElementActions(new WaitUtils(stub(WebDriver.class), 5), "BenchPage");
+    }
+
+    @Benchmark
+    public void baseline(Blackhole blackhole) {
+        blackhole.consume(element.isDisplayed() && element.isEnabled());
+        element.click();
+    }
+
+    @Benchmark
+    public void click() {
+        actions.click(element, "Login button");
+    }
+
+    @Benchmark
+    public void type() {
+        actions.type(element, "Username field", "standard_user");
+    }
+
+    @Benchmark
+    public String getText() {
+        return actions.getText(element, "Error message");
+    }
+
+    /** Stub whose boolean methods return true, String methods "" and everything else null. */
+    private static <T> T stub(Class<T> type) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (self, method, args) -> {
+            Class<?> returnType = method.getReturnType();
+            if (returnType == boolean.class) {
+                return true;
+            }
+            if (returnType == String.class) {
+                return "";
+            }
+            if (method.getName().equals("hashCode")) {
+                return System.identityHashCode(self);
+            }
+            if (method.getName().equals("equals")) {
+                return self == args[0];
+            }
+            return null;
+        });
+        return type.cast(proxy);
+    }
+}
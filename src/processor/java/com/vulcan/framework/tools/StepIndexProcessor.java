@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.tools;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that writes the step-definition index of the test source set.
+ *
+ * Output: META-INF/vulcan/step-index.tsv in the class output, one line per step definition:
+ * {@code <keyword>\t<expression>\t<class>#<method>(<parameter types>)}.
+ *
+ * Read by the pickle indexer (com.vulcan.framework.runners.index) to link every Gherkin step to
+ * the method that runs it, without scanning glue packages at run time.
+ *
+ * Registered as an aggregating incremental processor, so Gradle rebuilds the index only when
+ * annotated sources change.
+ *
+ * A method annotated twice with the same keyword carries the repeatable container instead
+ * (e.g. {@code Given.Givens}); each annotation inside it gets its own line.
+ */
+@SupportedAnnotationTypes({
+    "io.cucumber.java.en.Given",
+    "io.cucumber.java.en.When",
+    "io.cucumber.java.en.Then",
+    "io.cucumber.java.en.And",
+    "io.cucumber.java.en.But",
+    "io.cucumber.java.en.Given.Givens",
+    "io.cucumber.java.en.When.Whens",
+    "io.cucumber.java.en.Then.Thens",
+    "io.cucumber.java.en.And.Ands",
+    "io.cucumber.java.en.But.Buts"
+})
+public class StepIndexProcessor extends AbstractProcessor {
+
+    static final String INDEX = "META-INF/vulcan/step-index.tsv";
+
+    private final List<String> lines = new ArrayList<>();
+    private final List<Element> originating = new ArrayList<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        for (TypeElement annotation : annotations) {
+            // Containers are nested in their keyword annotation: Given.Givens -> Given
+            boolean container = annotation.getEnclosingElement() instanceof TypeElement;
+            String keyword = (container ? annotation.getEnclosingElement() : annotation).getSimpleName().toString();
+            for (Element element : round.getElementsAnnotatedWith(annotation)) {
+                if (!(element instanceof ExecutableElement)) {
+                    continue;
+                }
+                List<String> expressions = expressionsOf((ExecutableElement) element, annotation, container);
+                for (String expression : expressions) {
+                    lines.add(keyword + "\t" + escape(expression) + "\t" + methodId((ExecutableElement) element));
+                }
+                if (!expressions.isEmpty()) {
+                    originating.add(element.getEnclosingElement());
+                }
+            }
+        }
+        if (round.processingOver() && !lines.isEmpty()) {
+            write();
+        }
+        return false;
+    }
+
+    private void write() {
+        lines.sort(null);
+        try {
+            FileObject file = processingEnv.getFiler().createResource(
+                StandardLocation.CLASS_OUTPUT, "", INDEX, originating.toArray(new Element[0]));
+            try (Writer out = file.openWriter()) {
+                for (String line : lines) {
+                    out.write(line);
+                    out.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not write " + INDEX + ": " + e.getMessage());
+        }
+    }
+
+    private static List<String> expressionsOf(ExecutableElement method, TypeElement annotation, boolean container) {
+        List<String> expressions = new ArrayList<>();
+        for (AnnotationMirror mirror : method.getAnnotationMirrors()) {
+            if (!mirror.getAnnotationType().asElement().equals(annotation)) {
+                continue;
+            }
+            AnnotationValue value = valueOf(mirror);
+            if (value == null) {
+                continue;
+            }
+            if (!container) {
+                expressions.add(String.valueOf(value.getValue()));
+                continue;
+            }
+            // Container value(): the repeated step annotations
+            for (Object repeated : (List<?>) value.getValue()) {
+                AnnotationValue inner = valueOf((AnnotationMirror) ((AnnotationValue) repeated).getValue());
+                if (inner != null) {
+                    expressions.add(String.valueOf(inner.getValue()));
+                }
+            }
+        }
+        return expressions;
+    }
+
+    private static AnnotationValue valueOf(AnnotationMirror mirror) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value : mirror.getElementValues().entrySet()) {
+            if (value.getKey().getSimpleName().contentEquals("value")) {
+                return value.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static String methodId(ExecutableElement method) {
+        TypeElement type = (TypeElement) method.getEnclosingElement();
+        String parameters = method.getParameters().stream()
+            .map(VariableElement::asType)
+            .map(Object::toString)
+            .collect(Collectors.joining(","));
+        return type.getQualifiedName() + "#" + method.getSimpleName() + "(" + parameters + ")";
+    }
+
+    private static String escape(String expression) {
+        return expression.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n");
+    }
+}
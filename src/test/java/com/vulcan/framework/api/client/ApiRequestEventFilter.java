@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.api.client;
+
+import com.vulcan.framework.shared.jfr.ApiRequestEvent;
+import com.vulcan.framework.shared.jfr.CurrentScenario;
+import com.vulcan.framework.shared.metrics.FrameworkMetrics;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * RestAssured filter that records every request:
+ * - FrameworkMetrics: latency by method and status (-1 when no response was received)
+ * - JFR: one ApiRequestEvent (method, path, status, response Content-Length) when a recording is running
+ *
+ * Stateless: one shared instance is used by every client template.
+ */
+final class ApiRequestEventFilter implements Filter {
+
+    static final ApiRequestEventFilter INSTANCE = new ApiRequestEventFilter();
+
+    private ApiRequestEventFilter() {
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification request,
+                           FilterableResponseSpecification response,
+                           FilterContext context) {
+        long start = System.nanoTime();
+        ApiRequestEvent event = new ApiRequestEvent();
+        event.begin();
+        Response result = null;
+        try {
+            result = context.next(request, response);
+            return result;
+        } finally {
+            event.end();
+            int status = result == null ? -1 : result.getStatusCode();
+            FrameworkMetrics.API_REQUESTS.observeNanos(System.nanoTime() - start, request.getMethod(), String.valueOf(status));
+            if (event.shouldCommit()) {
+                event.scenario = CurrentScenario.get();
+                event.method = request.getMethod();
+                event.path = request.getUserDefinedPath();
+                event.status = status;
+                event.bytes = contentLength(result);
+                event.commit();
+            }
+        }
+    }
+
+    /** Content-Length of the response, or -1: reading the body only to size it would buffer every response. */
+    private static long contentLength(Response result) {
+        String header = result == null ? null : result.getHeader("Content-Length");
+        if (header == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.vulcan.framework.api.client;
 import com.vulcan.framework.config.ConfigManager;
 
 import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.config.HttpClientConfig;
 import io.restassured.config.RestAssuredConfig;
 import io.restassured.response.Response;
@@ -16,11 +17,12 @@ import org.apache.logging.log4j.Logger;
  *
  * Key design decision:
  * - Avoids setting global RestAssured.baseURI / RestAssured.config (shared JVM state).
- * - Builds a per-instance (per-scenario) RequestSpecification instead.
+ * - Builds immutable per-instance request templates once, and derives a fresh
+ *   RequestSpecification from them for every call.
  *
  * This is safer for:
- * - per-scenario lifecycle
- * - future parallel execution
+ * - scoped lifecycles (suite/thread/scenario, see ApiClients)
+ * - parallel execution (no mutable request state is shared between calls)
  * - switching env/baseUrl without bleeding across tests
  */
 public abstract class BaseApiClient {
@@ -34,12 +36,16 @@ public abstract class BaseApiClient {
     protected final String baseUrl;
     protected final int timeoutMs;
 
-    /** Base request spec reused for all calls made by this client instance. */
-    private final RequestSpecification baseRequest;
+    /**
+     * Request templates built once per client instance.
+     * They are never mutated: each call merges them into a new specification.
+     */
+    private final RequestSpecification jsonTemplate;
+    private final RequestSpecification htmlTemplate;
 
     protected BaseApiClient() {
         this.baseUrl = ConfigManager.getInstance().get("api.baseUrl");
-        this.timeoutMs = Integer.parseInt(ConfigManager.getInstance().get("api.timeout"));
+        this.timeoutMs = ConfigManager.getInstance().intValue("api.timeout");
 
         logger.info("Initializing API client | baseUrl={} | timeoutMs={}", baseUrl, timeoutMs);
 
@@ -50,11 +56,22 @@ public abstract class BaseApiClient {
                 .setParam("http.socket.timeout", timeoutMs)
                 .setParam("http.connection-manager.timeout", (long) timeoutMs));
 
-        // Build a per-instance base request specification.
+        // Build the per-instance request templates.
         // This avoids mutating RestAssured static globals.
-        this.baseRequest = RestAssured.given()
-            .baseUri(baseUrl)
-            .config(config);
+        this.jsonTemplate = new RequestSpecBuilder()
+            .setBaseUri(baseUrl)
+            .setConfig(config)
+            .addHeader("Accept", "application/json")
+            .addHeader("Content-Type", "application/json")
+            .addFilter(ApiRequestEventFilter.INSTANCE)
+            .build();
+
+        this.htmlTemplate = new RequestSpecBuilder()
+            .setBaseUri(baseUrl)
+            .setConfig(config)
+            .addHeader("Accept", "text/html")
+            .addFilter(ApiRequestEventFilter.INSTANCE)
+            .build();
     }
 
    /**
@@ -62,9 +79,7 @@ public abstract class BaseApiClient {
      * Use for typical REST APIs that return JSON.
      */
     protected RequestSpecification requestJson() {
-        return baseRequest
-            .header("Accept", "application/json")
-            .header("Content-Type", "application/json");
+        return RestAssured.given().spec(jsonTemplate);
     }
 
     /**
@@ -72,8 +87,7 @@ public abstract class BaseApiClient {
      * Useful for calling UI sites (like SauceDemo) as a basic health check.
      */
     protected RequestSpecification requestHtml() {
-        return baseRequest
-            .header("Accept", "text/html");
+        return RestAssured.given().spec(htmlTemplate);
     }
 
     /** Default GET for JSON APIs. */
@@ -11,6 +11,9 @@
 
 package com.vulcan.framework.api.client;
 
+import com.vulcan.framework.shared.context.ClientScope;
+import com.vulcan.framework.shared.context.ScopedClient;
+
 import io.restassured.response.Response;
 
 /**
@@ -18,7 +21,9 @@ import io.restassured.response.Response;
  * and framework wiring (base URL, timeouts, logging, scenario context, cleanup).
  *
  * This is intentionally simple: it is not "CRUD", it is a smoke/health call.
+ * It holds no scenario state, so a single instance is shared by the whole suite.
  */
+@ScopedClient(ClientScope.SUITE)
 public class HealthApiClient extends BaseApiClient {
     
    /**
@@ -11,10 +11,17 @@
 
 package com.vulcan.framework.api.client;
 
+import com.vulcan.framework.shared.context.ClientScope;
+import com.vulcan.framework.shared.context.ScopedClient;
+
 import io.restassured.response.Response;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+/**
+ * User endpoints. Stateless (no auth/session state), so it is shared by the whole suite.
+ */
+@ScopedClient(ClientScope.SUITE)
 public class UserApiClient extends BaseApiClient {
 
     private static final Logger logger = LogManager.getLogger(UserApiClient.class);
@@ -14,42 +14,303 @@ package com.vulcan.framework.config;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-
+/**
+ * ConfigManager owns the framework configuration.
+ *
+ * <p>An immutable {@link ConfigSnapshot} is built once (first access) from layered sources.
+ * Later layers override earlier ones:</p>
+ * <ol>
+ *   <li><b>defaults</b>: classpath {@code config/defaults.properties}</li>
+ *   <li><b>profile</b>: classpath {@code config/config-<env>.properties} (optional)</li>
+ *   <li><b>environment variables</b>: {@code VULCAN_<KEY>} for every known key,
+ *       e.g. {@code VULCAN_UI_BASEURL} overrides {@code ui.baseUrl}</li>
+ *   <li><b>system properties</b>: gradle.properties / -P values forwarded by Gradle, and -D values</li>
+ * </ol>
+ *
+ * <p>The profile ({@code env}) is resolved from system property, then {@code VULCAN_ENV},
+ * then the defaults file. Required keys are validated when the snapshot is built,
+ * so a misconfigured run fails before the first scenario instead of in the middle of one.</p>
+ *
+ * <p>Reads go to the current snapshot and cost a map lookup. The snapshot reference is
+ * volatile: {@link #reload()} / {@link #switchProfile(String)} swap it atomically.</p>
+ */
 public class ConfigManager {
-    
+
     private static final Logger logger = LogManager.getLogger(ConfigManager.class);
 
-    private static ConfigManager instance;    
+    /** Keys every run needs. Validated eagerly when a snapshot is built. */
+    private static final List<String> REQUIRED_KEYS = List.of(
+        "ui.baseUrl",
+        "ui.browser",
+        "ui.implicitWait",
+        "api.baseUrl",
+        "api.timeout",
+        "env"
+    );
+
+    /** Required keys that must parse as integers. */
+    private static final List<String> REQUIRED_INT_KEYS = List.of(
+        "ui.implicitWait",
+        "api.timeout"
+    );
+
+    private static final String DEFAULTS_RESOURCE = "config/defaults.properties";
+    private static final String PROFILE_RESOURCE = "config/config-%s.properties";
+    private static final String ENV_PREFIX = "VULCAN_";
+
+    /*
+     * Lazy, thread-safe singleton. Not the class holder idiom: a validation failure in the
+     * constructor would surface as ExceptionInInitializerError once and as a bare
+     * NoClassDefFoundError on every later call. The failure is kept and rethrown instead.
+     */
+    private static volatile ConfigManager instance;
+    private static volatile IllegalStateException failure;
+
+    private final List<Consumer<ConfigSnapshot>> reloadListeners = new CopyOnWriteArrayList<>();
+
+    private volatile ConfigSnapshot snapshot;
 
     private ConfigManager() {
-        logger.info("ConfigManager initialized. Reading configuration from system properties (gradle.properties).");
+        this.snapshot = build(null);
     }
+
+    /**
+     * @return the configuration, built on first call
+     * @throws IllegalStateException the same validation/read failure on every call when the
+     *         configuration could not be built
+     */
     public static ConfigManager getInstance() {
-        if (instance == null) {
-            logger.info("Creating ConfigManager instance");
-            instance = new ConfigManager();
+        ConfigManager current = instance;
+        if (current != null) {
+            return current;
         }
-        return instance;
+        synchronized (ConfigManager.class) {
+            if (instance == null) {
+                if (failure != null) {
+                    throw failure;
+                }
+                try {
+                    instance = new ConfigManager();
+                } catch (IllegalStateException e) {
+                    failure = e;
+                    throw e;
+                }
+            }
+            return instance;
+        }
+    }
+
+    /** @return the current immutable configuration snapshot */
+    public ConfigSnapshot snapshot() {
+        return snapshot;
     }
+
+    /** @return the value of a required key (see {@link ConfigSnapshot#get(String)}) */
     public String get(String key) {
-        String value = System.getProperty(key);
+        return snapshot.get(key);
+    }
+
+    /** @return the value of an optional key, or {@code defaultValue} */
+    public String get(String key, String defaultValue) {
+        return snapshot.get(key, defaultValue);
+    }
+
+    /** @return the required key parsed as int */
+    public int intValue(String key) {
+        return snapshot.intValue(key);
+    }
+
+    /** @return the optional key parsed as int, or {@code defaultValue} */
+    public int intValue(String key, int defaultValue) {
+        return snapshot.intValue(key, defaultValue);
+    }
+
+    /** @return the optional key parsed as boolean, or {@code defaultValue} */
+    public boolean booleanValue(String key, boolean defaultValue) {
+        return snapshot.booleanValue(key, defaultValue);
+    }
+
+    /** @return the required key parsed as a Duration (plain numbers use {@code defaultUnit}) */
+    public Duration duration(String key, ChronoUnit defaultUnit) {
+        return snapshot.duration(key, defaultUnit);
+    }
+
+    /** @return the optional key parsed as a Duration, or {@code defaultValue} */
+    public Duration duration(String key, ChronoUnit defaultUnit, Duration defaultValue) {
+        return snapshot.duration(key, defaultUnit, defaultValue);
+    }
+
+    /**
+     * Rebuilds the snapshot from the current sources (same profile resolution as startup).
+     * Useful after changing system properties in a long-lived JVM.
+     */
+    public synchronized ConfigSnapshot reload() {
+        return swap(build(null));
+    }
 
-        if (value == null) {
+    /**
+     * Rebuilds the snapshot for another environment profile, keeping the other layers.
+     *
+     * @param profile profile name, e.g. "qa" (loads config/config-qa.properties)
+     */
+    public synchronized ConfigSnapshot switchProfile(String profile) {
+        if (profile == null || profile.trim().isEmpty()) {
+            throw new IllegalArgumentException("profile cannot be blank");
+        }
+        return swap(build(profile.trim()));
+    }
+
+    /**
+     * Registers a callback invoked after every reload/profile switch.
+     * Components that cache configuration-derived objects (e.g. suite-scoped API clients)
+     * use this to drop stale instances.
+     */
+    public void addReloadListener(Consumer<ConfigSnapshot> listener) {
+        reloadListeners.add(listener);
+    }
+
+    private ConfigSnapshot swap(ConfigSnapshot next) {
+        this.snapshot = next;
+        for (Consumer<ConfigSnapshot> listener : reloadListeners) {
+            listener.accept(next);
+        }
+        return next;
+    }
+
+    /**
+     * Builds a snapshot from all layers.
+     *
+     * @param forcedProfile profile to use, or null to resolve it from the sources
+     */
+    private static ConfigSnapshot build(String forcedProfile) {
+        Map<String, String> values = new LinkedHashMap<>();
+        Map<String, String> origins = new LinkedHashMap<>();
+
+        // 1) Defaults
+        overlay(values, origins, loadResource(DEFAULTS_RESOURCE), "defaults");
+
+        // 2) Environment profile file
+        String profile = forcedProfile != null ? forcedProfile : resolveProfile(values);
+        String profileResource = String.format(PROFILE_RESOURCE, profile);
+        overlay(values, origins, loadResource(profileResource), profileResource);
+        values.put("env", profile);
+        origins.put("env", forcedProfile != null ? "switchProfile" : "resolved (system > VULCAN_ENV > defaults)");
+
+        // 3) Environment variables (keys known at this point + required keys).
+        //    "env" is skipped here and below: the profile was already resolved with the same precedence.
+        Set<String> knownKeys = new LinkedHashSet<>(values.keySet());
+        knownKeys.addAll(REQUIRED_KEYS);
+        knownKeys.remove("env");
+        for (String key : knownKeys) {
+            String envValue = System.getenv(envName(key));
+            if (envValue != null) {
+                values.put(key, envValue.trim());
+                origins.put(key, "env:" + envName(key));
+            }
+        }
+
+        // 4) System properties (gradle.properties / -P forwarded by Gradle, -D)
+        Properties system = System.getProperties();
+        for (String key : system.stringPropertyNames()) {
+            if ("env".equals(key)) {
+                continue;
+            }
+            values.put(key, system.getProperty(key).trim());
+            origins.put(key, "system");
+        }
+
+        ConfigSnapshot built = new ConfigSnapshot(profile, values, origins);
+        validate(built);
+
+        logger.info("Configuration snapshot built | profile={} | keys={}", profile, values.size());
+        for (String key : REQUIRED_KEYS) {
+            logger.debug("Config '{}' = '{}' (from {})", key, built.get(key), built.originOf(key));
+        }
+        return built;
+    }
+
+    private static String resolveProfile(Map<String, String> defaults) {
+        String fromSystem = System.getProperty("env");
+        if (fromSystem != null && !fromSystem.trim().isEmpty()) {
+            return fromSystem.trim();
+        }
+        String fromEnv = System.getenv(envName("env"));
+        if (fromEnv != null && !fromEnv.trim().isEmpty()) {
+            return fromEnv.trim();
+        }
+        return defaults.getOrDefault("env", "dev");
+    }
+
+    private static void validate(ConfigSnapshot built) {
+        List<String> problems = new ArrayList<>();
+        for (String key : REQUIRED_KEYS) {
+            if (!built.contains(key) || built.get(key).isEmpty()) {
+                problems.add("missing '" + key + "'");
+            }
+        }
+        for (String key : REQUIRED_INT_KEYS) {
+            if (built.contains(key)) {
+                try {
+                    built.intValue(key);
+                } catch (IllegalStateException e) {
+                    problems.add(e.getMessage());
+                }
+            }
+        }
+        if (!problems.isEmpty()) {
             logger.error(
-                "Configuration property '{}' not found in system properties. " +
-                "Make sure it is defined in gradle.properties or passed via -P/-D.",
-                key
+                "Invalid configuration for profile '{}': {}. " +
+                "Make sure keys are defined in gradle.properties or passed via -P/-D.",
+                built.profile(), problems
             );
-            throw new RuntimeException("Property '" + key + "' not found in system properties");
+            throw new IllegalStateException("Invalid configuration (profile='" + built.profile() + "'): " + problems);
         }
+    }
 
-        logger.debug("Reading config property '{}' = '{}'", key, value);
-        return value.trim();
+    private static void overlay(Map<String, String> values, Map<String, String> origins,
+                                Properties source, String origin) {
+        for (String key : source.stringPropertyNames()) {
+            values.put(key, source.getProperty(key).trim());
+            origins.put(key, origin);
+        }
     }
-}
 
+    private static Properties loadResource(String resource) {
+        Properties properties = new Properties();
+        try (InputStream in = ConfigManager.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                logger.debug("Config source '{}' not found on classpath (skipped)", resource);
+                return properties;
+            }
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read config source '" + resource + "'", e);
+        }
+        return properties;
+    }
 
+    /** ui.baseUrl -> VULCAN_UI_BASEURL */
+    private static String envName(String key) {
+        return ENV_PREFIX + key.toUpperCase().replace('.', '_');
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.config;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ConfigSnapshot is an immutable view of the framework configuration.
+ *
+ * <p>It is built once from layered sources (see {@link ConfigManager}) and then only read.
+ * Reads are a map lookup: no System.getProperty, no trimming, no logging.
+ * Typed values ({@link #intValue}, {@link #duration}) are parsed once per key and memoized.</p>
+ *
+ * <p>Supported duration formats for {@link #duration}:</p>
+ * <ul>
+ *   <li>plain number, interpreted in the unit given by the caller: {@code 5000}</li>
+ *   <li>number + suffix: {@code 500ms}, {@code 5s}, {@code 2m}, {@code 1h}</li>
+ *   <li>ISO-8601: {@code PT5S}</li>
+ * </ul>
+ */
+public final class ConfigSnapshot {
+
+    private final String profile;
+    private final Map<String, String> values;
+    private final Map<String, String> origins;
+
+    /** Memoized typed values. Parsed values are immutable, so sharing them is safe. */
+    private final Map<String, Integer> ints = new ConcurrentHashMap<>();
+    private final Map<ChronoUnit, Map<String, Duration>> durations = new ConcurrentHashMap<>();
+
+    ConfigSnapshot(String profile, Map<String, String> values, Map<String, String> origins) {
+        this.profile = profile;
+        this.values = Collections.unmodifiableMap(new LinkedHashMap<>(values));
+        this.origins = Collections.unmodifiableMap(new LinkedHashMap<>(origins));
+    }
+
+    /** @return the environment profile this snapshot was built for (e.g. "dev") */
+    public String profile() {
+        return profile;
+    }
+
+    /**
+     * @return the trimmed value of a required key
+     * @throws IllegalStateException if the key is not defined in any source
+     */
+    public String get(String key) {
+        String value = values.get(key);
+        if (value == null) {
+            throw new IllegalStateException(
+                "Property '" + key + "' not found in configuration (profile='" + profile + "'). " +
+                "Define it in gradle.properties, config/config-" + profile + ".properties, " +
+                "an environment variable or pass it via -P/-D."
+            );
+        }
+        return value;
+    }
+
+    /** @return the value of an optional key, or {@code defaultValue} when it is not defined */
+    public String get(String key, String defaultValue) {
+        String value = values.get(key);
+        return value == null ? defaultValue : value;
+    }
+
+    /** @return the value of an optional key */
+    public Optional<String> optional(String key) {
+        return Optional.ofNullable(values.get(key));
+    }
+
+    /** @return true if the key is defined in any source */
+    public boolean contains(String key) {
+        return values.containsKey(key);
+    }
+
+    /** @return the required key parsed as int */
+    public int intValue(String key) {
+        Integer cached = ints.get(key);
+        if (cached == null) {
+            cached = parseInt(key, get(key));
+            ints.putIfAbsent(key, cached);
+        }
+        return cached;
+    }
+
+    /** @return the optional key parsed as int, or {@code defaultValue} when it is not defined */
+    public int intValue(String key, int defaultValue) {
+        return contains(key) ? intValue(key) : defaultValue;
+    }
+
+    /** @return the optional key parsed as boolean ("true"/"false"), or {@code defaultValue} */
+    public boolean booleanValue(String key, boolean defaultValue) {
+        String value = values.get(key);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+
+    /**
+     * @param key required key
+     * @param defaultUnit unit applied to plain numbers (e.g. SECONDS for ui.implicitWait)
+     * @return the value parsed as a {@link Duration}
+     */
+    public Duration duration(String key, ChronoUnit defaultUnit) {
+        Map<String, Duration> byUnit = durations.computeIfAbsent(defaultUnit, unit -> new ConcurrentHashMap<>());
+        Duration cached = byUnit.get(key);
+        if (cached == null) {
+            cached = parseDuration(key, get(key), defaultUnit);
+            byUnit.putIfAbsent(key, cached);
+        }
+        return cached;
+    }
+
+    /** @return the optional key parsed as a {@link Duration}, or {@code defaultValue} */
+    public Duration duration(String key, ChronoUnit defaultUnit, Duration defaultValue) {
+        return contains(key) ? duration(key, defaultUnit) : defaultValue;
+    }
+
+    /** @return which source provided the effective value of a key (for diagnostics) */
+    public String originOf(String key) {
+        return origins.getOrDefault(key, "undefined");
+    }
+
+    /** @return all effective values (read-only) */
+    public Map<String, String> asMap() {
+        return values;
+    }
+
+    private static Integer parseInt(String key, String raw) {
+        try {
+            return Integer.parseInt(raw);
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Property '" + key + "' must be an integer but was '" + raw + "'", e);
+        }
+    }
+
+    static Duration parseDuration(String key, String raw, ChronoUnit defaultUnit) {
+        String value = raw.trim().toLowerCase();
+        try {
+            if (value.startsWith("p")) {
+                return Duration.parse(raw.trim().toUpperCase());
+            }
+            if (value.endsWith("ms")) {
+                return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2).trim()));
+            }
+            if (value.endsWith("s")) {
+                return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1).trim()));
+            }
+            if (value.endsWith("m")) {
+                return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1).trim()));
+            }
+            if (value.endsWith("h")) {
+                return Duration.ofHours(Long.parseLong(value.substring(0, value.length() - 1).trim()));
+            }
+            return Duration.of(Long.parseLong(value), defaultUnit);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalStateException(
+                "Property '" + key + "' must be a duration (e.g. 5000, 500ms, 5s, PT5S) but was '" + raw + "'", e);
+        }
+    }
+}
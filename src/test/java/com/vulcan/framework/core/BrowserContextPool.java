@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.core;
+
+import com.vulcan.framework.config.ConfigManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+/**
+ * BrowserContextPool runs many isolated sessions inside ONE browser process.
+ *
+ * Why:
+ * - A whole browser process per UI session is heavy (hundreds of MB, several processes).
+ * - An isolated browser context (incognito-like: own cookies, storage and cache) costs a
+ *   fraction of that and is created/disposed in milliseconds.
+ *
+ * How it works (Chrome):
+ * - A "host" ChromeDriver launches the browser process.
+ * - lease() creates a new browser context plus a window inside it through CDP
+ *   (Target.createBrowserContext / Target.createTarget), then attaches a lightweight
+ *   ChromeDriver to the same browser (debuggerAddress) and switches it to that window.
+ * - quit() on a leased driver disposes its context (Target.disposeBrowserContext) and
+ *   only detaches from the browser; the host process keeps running.
+ * - A host serves up to ui.contexts.perBrowser live contexts; a new host is launched when all are full.
+ *
+ * Configuration:
+ * - ui.contexts.enabled    (default false)
+ * - ui.contexts.perBrowser (default 8)
+ *
+ * Only Chrome is supported: Selenium 4.20 has no stable BiDi user-context API yet, so CDP is used.
+ * Other browsers keep one process per session.
+ */
+public final class BrowserContextPool {
+
+    private static final Logger logger = LogManager.getLogger(BrowserContextPool.class);
+
+    private static final List<Host> HOSTS = new ArrayList<>();
+    private static boolean shutdownHookRegistered;
+
+    private BrowserContextPool() {
+        // Utility class: prevent instantiation
+    }
+
+    /** @return true when context mode is enabled and supported for the configured browser */
+    static boolean isEnabled(String browser) {
+        if (!ConfigManager.getInstance().booleanValue("ui.contexts.enabled", false)) {
+            return false;
+        }
+        if (!"chrome".equals(browser)) {
+            logger.warn("ui.contexts.enabled is only supported for chrome. Launching a browser process for '{}'.", browser);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Leases an isolated context, launching a host browser when none has free capacity.
+     * The returned driver disposes its context on quit().
+     */
+    static WebDriver lease() {
+        // openContext() gives the reserved slot back itself when it fails
+        return hostWithCapacity().openContext();
+    }
+
+    /** Quits every host browser (and with it any context still open). */
+    public static void shutdown() {
+        List<Host> hosts;
+        synchronized (HOSTS) {
+            hosts = new ArrayList<>(HOSTS);
+            HOSTS.clear();
+        }
+        for (Host host : hosts) {
+            host.quit();
+        }
+        if (!hosts.isEmpty()) {
+            logger.info("Browser context hosts stopped | hosts={}", hosts.size());
+        }
+    }
+
+    private static Host hostWithCapacity() {
+        int perBrowser = Math.max(1, ConfigManager.getInstance().intValue("ui.contexts.perBrowser", 8));
+        synchronized (HOSTS) {
+            for (Host host : HOSTS) {
+                if (host.tryReserve(perBrowser)) {
+                    return host;
+                }
+            }
+        }
+
+        // Launch outside the lock: other threads can keep leasing from existing hosts meanwhile.
+        Host host = Host.launch();
+        host.tryReserve(perBrowser);
+        synchronized (HOSTS) {
+            HOSTS.add(host);
+            if (!shutdownHookRegistered) {
+                Runtime.getRuntime().addShutdownHook(new Thread(BrowserContextPool::shutdown, "vulcan-context-hosts"));
+                shutdownHookRegistered = true;
+            }
+        }
+        return host;
+    }
+
+    /** One browser process hosting many contexts. */
+    private static final class Host {
+        private final ChromeDriver driver;
+        private final String debuggerAddress;
+        private int leased;
+
+        private Host(ChromeDriver driver, String debuggerAddress) {
+            this.driver = driver;
+            this.debuggerAddress = debuggerAddress;
+        }
+
+        @SuppressWarnings("unchecked")
+        static Host launch() {
+            DriverBinaryCache.resolve("chrome");
+            ChromeOptions hostOptions = new ChromeOptions();
+            hostOptions.setPageLoadStrategy(DriverFactory.pageLoadStrategy());
+            ChromeDriver driver = new ChromeDriver(hostOptions);
+            Object chromeOptions = driver.getCapabilities().getCapability("goog:chromeOptions");
+            Object address = chromeOptions instanceof Map ? ((Map<String, Object>) chromeOptions).get("debuggerAddress") : null;
+            if (address == null) {
+                driver.quit();
+                throw new IllegalStateException("Chrome did not report a debuggerAddress; cannot host browser contexts");
+            }
+            logger.info("Launched browser context host | debuggerAddress={}", address);
+            return new Host(driver, address.toString());
+        }
+
+        synchronized boolean tryReserve(int capacity) {
+            if (leased >= capacity) {
+                return false;
+            }
+            leased++;
+            return true;
+        }
+
+        synchronized void release() {
+            leased--;
+        }
+
+        /**
+         * Opens a context on a slot reserved with {@link #tryReserve(int)}.
+         * On failure the slot is released exactly once: directly when no context was created,
+         * otherwise by disposing the context.
+         */
+        WebDriver openContext() {
+            String contextId;
+            try {
+                synchronized (this) {
+                    // CDP commands over the host connection are serialized per host
+                    contextId = (String) driver.executeCdpCommand("Target.createBrowserContext", new HashMap<>())
+                        .get("browserContextId");
+                }
+            } catch (RuntimeException e) {
+                release();
+                throw e;
+            }
+
+            ContextDriver context = null;
+            try {
+                String targetId;
+                synchronized (this) {
+                    Map<String, Object> target = new HashMap<>();
+                    target.put("url", "about:blank");
+                    target.put("browserContextId", contextId);
+                    target.put("newWindow", true);
+                    targetId = (String) driver.executeCdpCommand("Target.createTarget", target).get("targetId");
+                }
+
+                ChromeOptions options = new ChromeOptions();
+                options.setExperimentalOption("debuggerAddress", debuggerAddress);
+                options.setPageLoadStrategy(DriverFactory.pageLoadStrategy());
+                context = new ContextDriver(options, this, contextId);
+                // ChromeDriver window handles are CDP target ids
+                context.switchTo().window(targetId);
+            } catch (RuntimeException e) {
+                try {
+                    // Disposing the context also closes its target and releases the slot
+                    if (context != null) {
+                        context.quit();
+                    } else {
+                        disposeContext(contextId);
+                    }
+                } catch (RuntimeException cleanup) {
+                    e.addSuppressed(cleanup);
+                }
+                throw e;
+            }
+            logger.debug("Leased browser context {} | host={} | leased={}", contextId, debuggerAddress, leased);
+            return context;
+        }
+
+        void disposeContext(String contextId) {
+            try {
+                Map<String, Object> params = new HashMap<>();
+                params.put("browserContextId", contextId);
+                synchronized (this) {
+                    driver.executeCdpCommand("Target.disposeBrowserContext", params);
+                }
+            } catch (Exception e) {
+                logger.debug("Ignoring error while disposing context {}: {}", contextId, e.getMessage());
+            } finally {
+                release();
+            }
+        }
+
+        void quit() {
+            try {
+                driver.quit();
+            } catch (Exception e) {
+                logger.debug("Ignoring error while quitting context host: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * A ChromeDriver attached to a host browser and bound to one context.
+     * quit() disposes the context and detaches; it never stops the host process.
+     */
+    private static final class ContextDriver extends ChromeDriver {
+        private final Host host;
+        private final String contextId;
+        private boolean disposed;
+
+        ContextDriver(ChromeOptions options, Host host, String contextId) {
+            super(options);
+            this.host = host;
+            this.contextId = contextId;
+        }
+
+        @Override
+        public void quit() {
+            synchronized (this) {
+                if (disposed) {
+                    return;
+                }
+                disposed = true;
+            }
+            host.disposeContext(contextId);
+            super.quit();
+        }
+    }
+}
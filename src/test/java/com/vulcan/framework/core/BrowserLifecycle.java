@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * BrowserLifecycle tracks the browser of the current scenario (per thread).
+ *
+ * Why:
+ * - Starting a browser is the most expensive thing a scenario can do.
+ * - Hooks no longer launch it up front: they only {@link #prepare(String)} a start URL.
+ * - The session is created and navigated the first time a page object or step asks
+ *   DriverFactory for the driver.
+ * - Per-scenario browser instrumentation (NetworkCapture) starts on first use as well.
+ * - Teardown asks {@link #isUsed()} and skips the screenshot/quit when nobody touched the browser.
+ *
+ * Notes:
+ * - State is ThreadLocal (one scenario per thread at a time).
+ * - Must be reset in Hooks after each scenario.
+ */
+public final class BrowserLifecycle {
+
+    private static final Logger logger = LogManager.getLogger(BrowserLifecycle.class);
+
+    private BrowserLifecycle() {
+        // Utility class: prevent instantiation
+    }
+
+    /** Per-scenario browser state. */
+    private static final class State {
+        private String startUrl;
+        private boolean used;
+        private boolean lite;
+    }
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    /**
+     * Declares where the browser should go when it is first used in this scenario.
+     * Does NOT start a browser.
+     *
+     * @param startUrl URL to open on first use (e.g. ui.baseUrl), or null for none
+     */
+    public static void prepare(String startUrl) {
+        prepare(startUrl, false);
+    }
+
+    /**
+     * Same as {@link #prepare(String)}, optionally asking for the in-process lite driver
+     * (no browser process) for this scenario.
+     *
+     * @param startUrl URL to open on first use, or null for none
+     * @param lite true to use the lite driver instead of ui.browser
+     */
+    public static void prepare(String startUrl, boolean lite) {
+        State state = STATE.get();
+        state.startUrl = startUrl;
+        state.used = false;
+        state.lite = lite;
+    }
+
+    /** @return true if the current scenario asked for the lite driver */
+    static boolean isLite() {
+        return STATE.get().lite;
+    }
+
+    /** @return true if the browser was acquired during the current scenario */
+    public static boolean isUsed() {
+        return STATE.get().used;
+    }
+
+    /** Clears the scenario state. Must be called after each scenario. */
+    public static void reset() {
+        STATE.remove();
+    }
+
+    /**
+     * Called by DriverFactory every time the driver is handed out.
+     * On the first call of a scenario, marks the browser as used and performs the
+     * pending navigation (if any).
+     */
+    static void onAcquire(WebDriver driver) {
+        State state = STATE.get();
+        if (state.used) {
+            return;
+        }
+        state.used = true;
+        NetworkCapture.start(driver);
+
+        String startUrl = state.startUrl;
+        state.startUrl = null;
+        if (startUrl != null) {
+            logger.info("Browser first used in this scenario. Navigating to baseUrl: {}", startUrl);
+            long start = System.nanoTime();
+            driver.get(startUrl);
+            // With eager/none strategies this returns early; the page object waits for its readyLocator()
+            logger.info("Navigation returned in {} ms | pageLoadStrategy={}",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), DriverFactory.pageLoadStrategy());
+        }
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.core;
+
+import com.vulcan.framework.config.ConfigManager;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * DriverBinaryCache replaces "WebDriverManager.xxx().setup() on every driver creation".
+ *
+ * Why:
+ * - setup() resolves browser versions, reads metadata and may go to the network every time.
+ * - In air-gapped CI that is slow and can time out, and it ran for every single driver.
+ *
+ * How it works:
+ * - Per JVM: a browser is resolved at most once (in-memory memo).
+ * - Per machine: the resolved driver path is stored in a local manifest together with the
+ *   installed browser version. Next runs reuse it with NO network access, as long as the
+ *   installed browser version is unchanged and the driver binary still exists.
+ * - Full WebDriverManager resolution only happens on a cache miss (first run, browser upgrade,
+ *   deleted binary, or when the browser version cannot be detected).
+ *
+ * Configuration:
+ * - ui.driverCache.enabled (default true)
+ * - ui.driverCache.dir     (default ~/.cache/vulcan)
+ */
+public final class DriverBinaryCache {
+
+    private static final Logger logger = LogManager.getLogger(DriverBinaryCache.class);
+
+    private static final String MANIFEST_FILE = "driver-manifest.properties";
+    private static final Pattern VERSION = Pattern.compile("(\\d+(?:\\.\\d+)+)");
+
+    /** Driver path per browser, once resolved in this JVM. */
+    private static final Map<String, String> RESOLVED = new ConcurrentHashMap<>();
+
+    private DriverBinaryCache() {
+        // Utility class: prevent instantiation
+    }
+
+    /**
+     * Makes the driver binary for {@code browser} available to Selenium
+     * (sets webdriver.chrome.driver / webdriver.gecko.driver).
+     *
+     * @param browser "chrome" or "firefox"
+     */
+    public static void resolve(String browser) {
+        if (RESOLVED.containsKey(browser)) {
+            return;
+        }
+        synchronized (DriverBinaryCache.class) {
+            if (RESOLVED.containsKey(browser)) {
+                return;
+            }
+            String driverPath = ConfigManager.getInstance().booleanValue("ui.driverCache.enabled", true)
+                ? resolveWithManifest(browser)
+                : fullResolution(browser, managerFor(browser));
+            if (driverPath != null) {
+                RESOLVED.put(browser, driverPath);
+            }
+        }
+    }
+
+    private static String resolveWithManifest(String browser) {
+        WebDriverManager manager = managerFor(browser);
+        Optional<String> browserVersion = detectBrowserVersion(browser, manager);
+        if (!browserVersion.isPresent()) {
+            logger.info("Installed {} version not detected. Using full driver resolution.", browser);
+            return fullResolution(browser, manager);
+        }
+
+        Path manifestPath = cacheDir().resolve(MANIFEST_FILE);
+        Properties manifest = load(manifestPath);
+        String cachedVersion = manifest.getProperty(browser + ".browserVersion");
+        String cachedPath = manifest.getProperty(browser + ".driverPath");
+
+        if (browserVersion.get().equals(cachedVersion) && cachedPath != null && Files.isExecutable(Paths.get(cachedPath))) {
+            logger.info("Driver cache HIT | browser={} {} | driver={}", browser, cachedVersion, cachedPath);
+            System.setProperty(driverProperty(browser), cachedPath);
+            return cachedPath;
+        }
+
+        logger.info("Driver cache MISS | browser={} installed={} cached={}. Resolving once.",
+            browser, browserVersion.get(), cachedVersion);
+        String driverPath = fullResolution(browser, manager);
+        if (driverPath != null) {
+            manifest.setProperty(browser + ".browserVersion", browserVersion.get());
+            manifest.setProperty(browser + ".driverPath", driverPath);
+            manifest.setProperty(browser + ".driverVersion", String.valueOf(manager.getDownloadedDriverVersion()));
+            manifest.setProperty(browser + ".resolvedAt", Instant.now().toString());
+            store(manifestPath, manifest);
+        }
+        return driverPath;
+    }
+
+    /** Original behavior: let WebDriverManager resolve (and download if needed). */
+    private static String fullResolution(String browser, WebDriverManager manager) {
+        manager.setup();
+        String driverPath = manager.getDownloadedDriverPath();
+        if (driverPath != null) {
+            System.setProperty(driverProperty(browser), driverPath);
+        }
+        return driverPath;
+    }
+
+    /**
+     * Detects the installed browser version locally (no network):
+     * runs "<browser binary> --version", and falls back to a version-named folder
+     * next to the binary (Windows Chrome layout).
+     */
+    private static Optional<String> detectBrowserVersion(String browser, WebDriverManager manager) {
+        Optional<Path> browserPath;
+        try {
+            browserPath = manager.getBrowserPath();
+        } catch (Exception e) {
+            logger.debug("Browser path lookup failed for {}: {}", browser, e.getMessage());
+            return Optional.empty();
+        }
+        if (!browserPath.isPresent()) {
+            return Optional.empty();
+        }
+
+        Path binary = browserPath.get();
+        try {
+            Process process = new ProcessBuilder(binary.toString(), "--version").redirectErrorStream(true).start();
+            try (InputStream in = process.getInputStream()) {
+                if (process.waitFor(10, TimeUnit.SECONDS)) {
+                    Matcher matcher = VERSION.matcher(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+                    if (matcher.find()) {
+                        return Optional.of(matcher.group(1));
+                    }
+                } else {
+                    process.destroyForcibly();
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("'{} --version' failed: {}", binary, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+
+        Path parent = binary.getParent();
+        if (parent != null && Files.isDirectory(parent)) {
+            try (Stream<Path> children = Files.list(parent)) {
+                return children
+                    .filter(Files::isDirectory)
+                    .map(path -> path.getFileName().toString())
+                    .filter(name -> VERSION.matcher(name).matches())
+                    .max(DriverBinaryCache::compareVersions);
+            } catch (IOException e) {
+                logger.debug("Version folder lookup failed in {}: {}", parent, e.getMessage());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static WebDriverManager managerFor(String browser) {
+        switch (browser) {
+            case "chrome":
+                return WebDriverManager.chromedriver();
+            case "firefox":
+                return WebDriverManager.firefoxdriver();
+            default:
+                throw new IllegalArgumentException("No driver binary resolution for browser: " + browser);
+        }
+    }
+
+    private static String driverProperty(String browser) {
+        return "chrome".equals(browser) ? "webdriver.chrome.driver" : "webdriver.gecko.driver";
+    }
+
+    private static Path cacheDir() {
+        String configured = ConfigManager.getInstance().get("ui.driverCache.dir", "");
+        return configured.isEmpty()
+            ? Paths.get(System.getProperty("user.home"), ".cache", "vulcan")
+            : Paths.get(configured);
+    }
+
+    private static Properties load(Path manifestPath) {
+        Properties manifest = new Properties();
+        if (Files.isRegularFile(manifestPath)) {
+            try (InputStream in = Files.newInputStream(manifestPath)) {
+                manifest.load(in);
+            } catch (IOException e) {
+                logger.warn("Unreadable driver manifest {} (ignored): {}", manifestPath, e.getMessage());
+            }
+        }
+        return manifest;
+    }
+
+    /** Write-then-move, so concurrent JVMs never read a half-written manifest. */
+    private static void store(Path manifestPath, Properties manifest) {
+        try {
+            Files.createDirectories(manifestPath.getParent());
+            Path temp = Files.createTempFile(manifestPath.getParent(), MANIFEST_FILE, ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                manifest.store(out, "VulcanTestFramework driver binary cache (safe to delete)");
+            }
+            try {
+                Files.move(temp, manifestPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, manifestPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            logger.warn("Could not write driver manifest {}: {}", manifestPath, e.getMessage());
+        }
+    }
+
+    private static int compareVersions(String left, String right) {
+        String[] a = left.split("\\.");
+        String[] b = right.split("\\.");
+        for (int i = 0; i < Math.max(a.length, b.length); i++) {
+            long x = i < a.length ? Long.parseLong(a[i]) : 0;
+            long y = i < b.length ? Long.parseLong(b[i]) : 0;
+            if (x != y) {
+                return Long.compare(x, y);
+            }
+        }
+        return 0;
+    }
+}
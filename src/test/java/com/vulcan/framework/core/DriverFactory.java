@@ -13,66 +13,233 @@ package com.vulcan.framework.core;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver; 
+import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+import org.htmlunit.BrowserVersion;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import com.vulcan.framework.config.ConfigManager;
+import com.vulcan.framework.shared.jfr.CurrentScenario;
+import com.vulcan.framework.shared.jfr.DriverEvent;
+import com.vulcan.framework.shared.metrics.FrameworkMetrics;
 import java.time.Duration;
+import java.time.temporal.ChronoUnit;
 
+/**
+ * DriverFactory creates and hands out the WebDriver of the current thread.
+ *
+ * Notes:
+ * - One driver per thread (ThreadLocal), so parallel workers never share a session.
+ * - When SessionProvisioner is active, new drivers come from its pre-warmed pool
+ *   instead of being launched on the scenario thread.
+ * - releaseDriver() either recycles a session into the pool (ui.session.reuse=true) or quits it.
+ * - ui.browser=lite (or @lite scenarios with ui.lite.enabled=true) uses an in-process HtmlUnit
+ *   driver: same WebDriver interface, no browser process. Meant for simple DOM checks.
+ * - Sessions use ui.pageLoadStrategy; page objects declare their own readiness (BasePage.readyLocator()).
+ * - With ui.contexts.enabled=true (chrome), sessions are isolated contexts leased from a shared
+ *   browser process (BrowserContextPool); quitting them only disposes the context.
+ */
 public class DriverFactory {
 
     private static final Logger logger = LogManager.getLogger(DriverFactory.class);
-    private static WebDriver driver;
+    private static final ThreadLocal<WebDriver> DRIVER = new ThreadLocal<>();
+
+    /** ui.browser value (and @lite scenarios) for the in-process HtmlUnit driver. */
+    static final String LITE = "lite";
     private static WebDriverWait wait;
 
+    /**
+     * Returns the WebDriver, creating it on first use.
+     * The first call of a scenario also performs the navigation prepared by Hooks
+     * (see {@link BrowserLifecycle}).
+     */
     public static WebDriver getDriver() {
+        WebDriver driver = DRIVER.get();
         if (driver == null) {
             logger.info("WebDriver is null. Creating a new instance.");
-            createDriver();
+            // @lite scenarios never take a browser from the provisioning pool
+            driver = BrowserLifecycle.isLite() ? launchSession(LITE) : SessionProvisioner.acquire();
+            DRIVER.set(driver);
         }else {
             logger.debug("Reusing existing WebDriver instance.");
         }
+        BrowserLifecycle.onAcquire(driver);
         return driver;
     }
 
-    private static void createDriver() {
-        String browser = ConfigManager.getInstance().get("ui.browser").toLowerCase();
-        int implicitWait = Integer.parseInt(ConfigManager.getInstance().get("ui.implicitWait"));
+    /**
+     * Launches a new, fully configured browser session.
+     * Called on the scenario thread, or on SessionProvisioner threads when pre-warming.
+     */
+    static WebDriver launchSession() {
+        return launchSession(ConfigManager.getInstance().get("ui.browser").toLowerCase());
+    }
+
+    private static WebDriver launchSession(String browser) {
+        long start = System.nanoTime();
+        DriverEvent event = new DriverEvent();
+        event.begin();
+        WebDriver driver = createSession(browser);
+        record(event, start, "create", browser);
+        return driver;
+    }
+
+    private static WebDriver createSession(String browser) {
+        Duration implicitWait = ConfigManager.getInstance().duration("ui.implicitWait", ChronoUnit.SECONDS);
 
         logger.info("Creating WebDriver for browser: {}", browser);
 
+        WebDriver driver;
+        if (LITE.equals(browser)) {
+            // In-process HTML driver: no browser process, no window
+            driver = new HtmlUnitDriver(BrowserVersion.BEST_SUPPORTED, true);
+            driver.manage().timeouts().implicitlyWait(implicitWait);
+            return driver;
+        } else if (BrowserContextPool.isEnabled(browser)) {
+            // Isolated context inside a shared browser process (ui.contexts.enabled=true)
+            driver = BrowserContextPool.lease();
+        } else {
+            driver = launchBrowserProcess(browser);
+        }
+
+        logger.info("Setting implicit wait to {}", implicitWait);
+        driver.manage().timeouts().implicitlyWait(implicitWait);
+
+        logger.info("Maximizing browser window");       
+        driver.manage().window().maximize();
+        return driver;
+    }
+
+    private static WebDriver launchBrowserProcess(String browser) {
+        WebDriver driver;
         switch (browser) {
                 case "chrome":
-                    WebDriverManager.chromedriver().setup();
-                    driver = new ChromeDriver();
+                    DriverBinaryCache.resolve("chrome");
+                    ChromeOptions chromeOptions = new ChromeOptions();
+                    chromeOptions.setPageLoadStrategy(pageLoadStrategy());
+                    driver = new ChromeDriver(chromeOptions);
                     break;
                 case "firefox":
-                    WebDriverManager.firefoxdriver().setup();
-                    driver = new FirefoxDriver();
+                    DriverBinaryCache.resolve("firefox");
+                    FirefoxOptions firefoxOptions = new FirefoxOptions();
+                    firefoxOptions.setPageLoadStrategy(pageLoadStrategy());
+                    driver = new FirefoxDriver(firefoxOptions);
                     break;
                 default:
                     logger.error("Unsupported browser configured: {}", browser);
                     throw new RuntimeException("Unsupported browser: " + browser);
         }
+        return driver;
+    }
 
-        logger.info("Setting implicit wait to {} seconds", implicitWait);
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(implicitWait));
-
-        logger.info("Maximizing browser window");       
-        driver.manage().window().maximize();
+    /**
+     * Page-load strategy from ui.pageLoadStrategy (normal|eager|none, default normal).
+     *
+     * - normal: driver.get() returns after every subresource has loaded (load event)
+     * - eager:  returns at DOMContentLoaded; pages wait for what they need (BasePage.readyLocator())
+     * - none:   returns right after the navigation is committed
+     */
+    static PageLoadStrategy pageLoadStrategy() {
+        String value = ConfigManager.getInstance().get("ui.pageLoadStrategy", "normal").trim();
+        PageLoadStrategy strategy = PageLoadStrategy.fromString(value);
+        if (strategy == null) {
+            throw new RuntimeException("Unsupported ui.pageLoadStrategy: " + value + " (expected normal|eager|none)");
+        }
+        return strategy;
     }
+
     public static void quitDriver() {
+        WebDriver driver = DRIVER.get();
         if (driver != null) {
             logger.info("Quitting WebDriver");
-            driver.quit();
-            driver = null;
+            DRIVER.remove();
+            quit(driver);
         }  else {
             logger.debug("quitDriver() called but WebDriver is already null.");
         }
     }
+    /**
+     * Hands the current WebDriver over to the caller without quitting it.
+     * The factory forgets the instance, so the next getDriver() creates a new one.
+     *
+     * Used by teardown to release the browser in the background while other
+     * cleanup continues on the scenario thread.
+     *
+     * @return the detached driver, or null if none was created
+     */
+    public static WebDriver detachDriver() {
+        WebDriver detached = DRIVER.get();
+        DRIVER.remove();
+        return detached;
+    }
+
+    /**
+     * Ends the use of a detached session: recycles it into the SessionProvisioner pool when session
+     * reuse is enabled and the session is healthy (SessionHealthMonitor), otherwise quits it.
+     * Health is only sampled when the pool could take the session back.
+     * Safe to call from any thread.
+     */
+    public static void releaseDriver(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        if (driver instanceof HtmlUnitDriver) {
+            // Lite sessions are in-process and cost nothing to recreate: no health check, no pooling
+            quit(driver);
+            return;
+        }
+        if (SessionProvisioner.isRecycling()) {
+            SessionHealthMonitor.Sample health = SessionHealthMonitor.check(driver);
+            long start = System.nanoTime();
+            DriverEvent event = new DriverEvent();
+            event.begin();
+            if (SessionProvisioner.recycle(driver, health)) {
+                record(event, start, "recycle", browserOf(driver));
+                return;
+            }
+        }
+        logger.info("Quitting WebDriver");
+        quit(driver);
+    }
+
+    private static void quit(WebDriver driver) {
+        long start = System.nanoTime();
+        DriverEvent event = new DriverEvent();
+        event.begin();
+        try {
+            driver.quit();
+        } finally {
+            record(event, start, "quit", browserOf(driver));
+        }
+    }
+
+    /**
+     * Records one session operation: FrameworkMetrics (always) and the JFR DriverEvent
+     * (no-op when no recording is running).
+     */
+    private static void record(DriverEvent event, long startNanos, String operation, String browser) {
+        event.end();
+        FrameworkMetrics.DRIVER_OPERATIONS.observeNanos(System.nanoTime() - startNanos, operation, browser);
+        if (event.shouldCommit()) {
+            event.scenario = CurrentScenario.get();
+            event.operation = operation;
+            event.browser = browser;
+            event.commit();
+        }
+    }
+
+    private static String browserOf(WebDriver driver) {
+        return driver instanceof HasCapabilities
+            ? ((HasCapabilities) driver).getCapabilities().getBrowserName()
+            : driver.getClass().getSimpleName();
+    }
+
     public static boolean isDriverInitialized() {
-        return driver != null;
+        return DRIVER.get() != null;
     }    
 }
@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vulcan.framework.config.ConfigManager;
+
+import io.qameta.allure.Allure;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+/**
+ * NetworkCapture records a HAR-like waterfall of the browser's network activity per scenario.
+ *
+ * How it works:
+ * - Started when the browser is first used in a scenario (BrowserLifecycle), only with
+ *   ui.network.capture=true and a DevTools-capable (Chromium) driver.
+ * - Listens to raw CDP Network events (no version-specific bindings), so it works with any
+ *   installed Chrome version.
+ * - finish() (Hooks teardown, before the browser is released) stops listening and attaches:
+ *   - "Network waterfall" : gzip JSON lines, one request per line (url, method, type, status,
+ *     start/duration/ttfb ms, bytes, cache), written entry by entry and capped at roughly
+ *     ui.network.maxAttachmentKb compressed bytes
+ *   - "Network summary"   : totals plus the ui.network.slowest slowest requests
+ *
+ * Memory is bounded by ui.network.maxEntries; requests beyond it are counted, not stored.
+ * State is ThreadLocal (one scenario per thread at a time).
+ */
+public final class NetworkCapture {
+
+    private static final Logger logger = LogManager.getLogger(NetworkCapture.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final ThreadLocal<Recorder> RECORDER = new ThreadLocal<>();
+
+    private NetworkCapture() {
+        // Utility class: prevent instantiation
+    }
+
+    /** Starts capturing for the current scenario if enabled. Never throws. */
+    static void start(WebDriver driver) {
+        ConfigManager config = ConfigManager.getInstance();
+        if (!config.booleanValue("ui.network.capture", false) || RECORDER.get() != null) {
+            return;
+        }
+        if (!(driver instanceof HasDevTools)) {
+            logger.info("Network capture skipped: {} has no DevTools support", driver.getClass().getSimpleName());
+            return;
+        }
+        try {
+            Recorder recorder = new Recorder(((HasDevTools) driver).getDevTools(), config.intValue("ui.network.maxEntries", 5000));
+            recorder.start();
+            RECORDER.set(recorder);
+        } catch (Exception e) {
+            logger.warn("Network capture could not start: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Stops capturing and attaches the waterfall and summary to Allure.
+     * No-op when nothing was captured. Must run on the scenario thread.
+     */
+    public static void finish(String scenarioName) {
+        Recorder recorder = RECORDER.get();
+        RECORDER.remove();
+        if (recorder == null) {
+            return;
+        }
+        recorder.stop();
+
+        ConfigManager config = ConfigManager.getInstance();
+        List<Map<String, Object>> entries = recorder.entries();
+        int maxBytes = config.intValue("ui.network.maxAttachmentKb", 512) * 1024;
+        int slowest = config.intValue("ui.network.slowest", 5);
+
+        attachWaterfall(scenarioName, entries, maxBytes);
+        String summary = summarize(entries, recorder.dropped(), slowest);
+        Allure.addAttachment("Network summary - " + scenarioName, "text/plain", summary, ".txt");
+        logger.info("Network capture | scenario='{}' | {}", scenarioName, summary.split("\n", 2)[0]);
+    }
+
+    /** Streams the gzip JSON lines through a temp file: the capture is never held in memory twice. */
+    private static void attachWaterfall(String scenarioName, List<Map<String, Object>> entries, int maxBytes) {
+        Path file = null;
+        try {
+            file = Files.createTempFile("vulcan-network-", ".jsonl.gz");
+            writeWaterfall(file, entries, maxBytes);
+            try (InputStream in = Files.newInputStream(file)) {
+                Allure.addAttachment("Network waterfall - " + scenarioName, "application/gzip", in, ".jsonl.gz");
+            }
+        } catch (IOException e) {
+            logger.warn("Could not write network waterfall for scenario='{}': {}", scenarioName, e.getMessage());
+        } finally {
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    logger.debug("Could not delete {}: {}", file, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static void writeWaterfall(Path file, List<Map<String, Object>> entries, int maxBytes) throws IOException {
+        long[] compressedBytes = {0};
+        OutputStream counting = new FilterOutputStream(new BufferedOutputStream(Files.newOutputStream(file))) {
+            @Override
+            public void write(int b) throws IOException {
+                out.write(b);
+                compressedBytes[0]++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+                compressedBytes[0] += len;
+            }
+        };
+        int written = 0;
+        try (GZIPOutputStream gzip = new GZIPOutputStream(counting)) {
+            for (Map<String, Object> entry : entries) {
+                if (compressedBytes[0] >= maxBytes) {
+                    break;
+                }
+                gzip.write(MAPPER.writeValueAsBytes(entry));
+                gzip.write('\n');
+                written++;
+            }
+            if (written < entries.size()) {
+                Map<String, Object> note = new LinkedHashMap<>();
+                note.put("truncated", entries.size() - written);
+                note.put("reason", "ui.network.maxAttachmentKb reached");
+                gzip.write(MAPPER.writeValueAsBytes(note));
+                gzip.write('\n');
+            }
+        }
+    }
+
+    private static String summarize(List<Map<String, Object>> entries, int dropped, int slowest) {
+        long bytes = 0;
+        int cached = 0;
+        int failed = 0;
+        for (Map<String, Object> entry : entries) {
+            bytes += (long) number(entry.get("bytes"));
+            if (!"network".equals(entry.get("cache"))) {
+                cached++;
+            }
+            if (entry.get("error") != null || number(entry.get("status")) >= 400) {
+                failed++;
+            }
+        }
+
+        StringBuilder summary = new StringBuilder()
+            .append("requests=").append(entries.size())
+            .append(" | dropped=").append(dropped)
+            .append(" | transferKb=").append(bytes / 1024)
+            .append(" | fromCache=").append(cached)
+            .append(" | failed=").append(failed)
+            .append('\n');
+
+        List<Map<String, Object>> byDuration = new ArrayList<>(entries);
+        byDuration.sort(Comparator.comparingDouble(
+            (Map<String, Object> entry) -> number(entry.get("durationMs"))).reversed());
+        summary.append("Slowest requests:\n");
+        for (Map<String, Object> entry : byDuration.subList(0, Math.min(slowest, byDuration.size()))) {
+            summary.append(String.format("  %6sms  %s %s %s  (%s, %s bytes)%n",
+                entry.get("durationMs"), entry.get("status"), entry.get("method"), entry.get("url"),
+                entry.get("cache"), entry.get("bytes")));
+        }
+        return summary.toString();
+    }
+
+    private static double number(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : 0;
+    }
+
+    /** Collects CDP Network events of one session into per-request entries. */
+    private static final class Recorder {
+        private final DevTools devTools;
+        private final int maxEntries;
+        private final Map<String, Map<String, Object>> byRequestId = new LinkedHashMap<>();
+        private double firstTimestamp = -1;
+        private int dropped;
+
+        Recorder(DevTools devTools, int maxEntries) {
+            this.devTools = devTools;
+            this.maxEntries = maxEntries;
+        }
+
+        void start() {
+            devTools.createSessionIfThereIsNotOne();
+            devTools.send(new Command<Void>("Network.enable", Collections.emptyMap()));
+            devTools.addListener(event("Network.requestWillBeSent"), this::onRequest);
+            devTools.addListener(event("Network.responseReceived"), this::onResponse);
+            devTools.addListener(event("Network.requestServedFromCache"), params -> update(params, entry -> entry.put("cache", "memory")));
+            devTools.addListener(event("Network.loadingFinished"), this::onFinished);
+            devTools.addListener(event("Network.loadingFailed"), this::onFailed);
+        }
+
+        void stop() {
+            try {
+                devTools.clearListeners();
+                devTools.send(new Command<Void>("Network.disable", Collections.emptyMap()));
+            } catch (Exception e) {
+                logger.debug("Ignoring error while stopping network capture: {}", e.getMessage());
+            }
+        }
+
+        /** @return a copy of the entries in start order (requests still in flight have no duration) */
+        synchronized List<Map<String, Object>> entries() {
+            List<Map<String, Object>> entries = new ArrayList<>();
+            for (Map<String, Object> entry : byRequestId.values()) {
+                Map<String, Object> copy = new LinkedHashMap<>(entry);
+                copy.remove("_ts");
+                entries.add(copy);
+            }
+            entries.sort(Comparator.comparingDouble(entry -> number(entry.get("startMs"))));
+            return entries;
+        }
+
+        synchronized int dropped() {
+            return dropped;
+        }
+
+        @SuppressWarnings("unchecked")
+        private synchronized void onRequest(Map<String, Object> params) {
+            String requestId = (String) params.get("requestId");
+            if (byRequestId.containsKey(requestId)) {
+                return; // redirect hop: keep the first request of the chain
+            }
+            if (byRequestId.size() >= maxEntries) {
+                dropped++;
+                return;
+            }
+            double timestamp = number(params.get("timestamp"));
+            if (firstTimestamp < 0) {
+                firstTimestamp = timestamp;
+            }
+            Map<String, Object> request = (Map<String, Object>) params.getOrDefault("request", Collections.emptyMap());
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("url", request.get("url"));
+            entry.put("method", request.get("method"));
+            entry.put("type", params.get("type"));
+            entry.put("status", 0);
+            entry.put("startMs", round((timestamp - firstTimestamp) * 1000));
+            entry.put("durationMs", null);
+            entry.put("ttfbMs", null);
+            entry.put("bytes", 0L);
+            entry.put("cache", "network");
+            entry.put("_ts", timestamp);
+            byRequestId.put(requestId, entry);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void onResponse(Map<String, Object> params) {
+            update(params, entry -> {
+                Map<String, Object> response = (Map<String, Object>) params.getOrDefault("response", Collections.emptyMap());
+                entry.put("status", response.get("status"));
+                entry.put("protocol", response.get("protocol"));
+                if (Boolean.TRUE.equals(response.get("fromDiskCache"))) {
+                    entry.put("cache", "disk");
+                } else if (Boolean.TRUE.equals(response.get("fromServiceWorker"))) {
+                    entry.put("cache", "service-worker");
+                } else if (Boolean.TRUE.equals(response.get("fromPrefetchCache"))) {
+                    entry.put("cache", "prefetch");
+                }
+                Object timing = response.get("timing");
+                if (timing instanceof Map) {
+                    entry.put("ttfbMs", round(number(((Map<String, Object>) timing).get("receiveHeadersEnd"))));
+                }
+            });
+        }
+
+        private void onFinished(Map<String, Object> params) {
+            update(params, entry -> {
+                entry.put("durationMs", round((number(params.get("timestamp")) - number(entry.remove("_ts"))) * 1000));
+                entry.put("bytes", (long) number(params.get("encodedDataLength")));
+            });
+        }
+
+        private void onFailed(Map<String, Object> params) {
+            update(params, entry -> {
+                entry.put("durationMs", round((number(params.get("timestamp")) - number(entry.remove("_ts"))) * 1000));
+                entry.put("error", Boolean.TRUE.equals(params.get("canceled")) ? "canceled" : params.get("errorText"));
+            });
+        }
+
+        private synchronized void update(Map<String, Object> params, Consumer<Map<String, Object>> change) {
+            Map<String, Object> entry = byRequestId.get((String) params.get("requestId"));
+            if (entry != null) {
+                change.accept(entry);
+            }
+        }
+
+        private static Event<Map<String, Object>> event(String method) {
+            return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+        }
+
+        private static double round(double millis) {
+            return Math.round(millis * 10) / 10.0;
+        }
+    }
+}
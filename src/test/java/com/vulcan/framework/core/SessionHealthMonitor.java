@@ -0,0 +1,331 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.core;
+
+import com.vulcan.framework.config.ConfigManager;
+import com.vulcan.framework.shared.metrics.RunMetrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+/**
+ * SessionHealthMonitor samples a browser session released for reuse and decides
+ * whether it is still fit for it. Sessions that are quit right away are not sampled
+ * (no pool, or ui.session.reuse=false).
+ *
+ * Samples:
+ * - command latency: round trip of a trivial WebDriver command (bounded by ui.health.probeTimeout)
+ * - JS heap: JSHeapUsedSize from CDP Performance.getMetrics (Chromium only)
+ * - RSS: resident memory of the browser process tree (Linux /proc only)
+ *
+ * A session is unhealthy when it is unresponsive or crosses any configured threshold;
+ * unhealthy sessions are never recycled (see SessionProvisioner).
+ * Every sample is recorded in the "session-health" run metrics stream.
+ *
+ * Configuration (a threshold of 0 disables it):
+ * - ui.health.enabled      (default true)
+ * - ui.health.maxRssMb     (default 2048)
+ * - ui.health.maxJsHeapMb  (default 512)
+ * - ui.health.maxLatency   (default 3s)
+ * - ui.health.probeTimeout (default 10s)
+ */
+public final class SessionHealthMonitor {
+
+    private static final Logger logger = LogManager.getLogger(SessionHealthMonitor.class);
+    private static final long MB = 1024L * 1024L;
+    private static final Path PROC = Paths.get("/proc");
+
+    private static final ExecutorService PROBE = Executors.newCachedThreadPool(new ThreadFactory() {
+        private final AtomicInteger threads = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "vulcan-health-probe-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    /** Root browser pid and "Performance.enable sent" flag, per live session. */
+    private static final Map<WebDriver, Long> ROOT_PIDS = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<WebDriver, Boolean> CDP_ENABLED = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private SessionHealthMonitor() {
+        // Utility class: prevent instantiation
+    }
+
+    /** Result of one health check. Negative values mean "not available". */
+    public static final class Sample {
+        private final long latencyMs;
+        private final long jsHeapBytes;
+        private final long rssBytes;
+        private final String recycleReason;
+
+        Sample(long latencyMs, long jsHeapBytes, long rssBytes, String recycleReason) {
+            this.latencyMs = latencyMs;
+            this.jsHeapBytes = jsHeapBytes;
+            this.rssBytes = rssBytes;
+            this.recycleReason = recycleReason;
+        }
+
+        public long latencyMs() { return latencyMs; }
+        public long jsHeapBytes() { return jsHeapBytes; }
+        public long rssBytes() { return rssBytes; }
+
+        /** @return why the session must be recycled, or null when it is healthy */
+        public String recycleReason() { return recycleReason; }
+
+        public boolean healthy() { return recycleReason == null; }
+    }
+
+    /** A sample for sessions that were not checked (monitoring disabled). */
+    static final Sample UNCHECKED = new Sample(-1, -1, -1, null);
+
+    /**
+     * Checks a session and records the sample. Never throws.
+     *
+     * @param driver the session being released
+     */
+    static Sample check(WebDriver driver) {
+        ConfigManager config = ConfigManager.getInstance();
+        if (!config.booleanValue("ui.health.enabled", true)) {
+            return UNCHECKED;
+        }
+        Duration probeTimeout = config.duration("ui.health.probeTimeout", ChronoUnit.SECONDS, Duration.ofSeconds(10));
+
+        long latencyMs = probeLatency(driver, probeTimeout);
+        String reason = null;
+        long jsHeap = -1;
+        long rss = -1;
+
+        if (latencyMs < 0) {
+            reason = "unresponsive (no reply within " + probeTimeout + ")";
+        } else {
+            jsHeap = jsHeapUsed(driver);
+            rss = processTreeRss(driver);
+            reason = thresholdBreach(config, latencyMs, jsHeap, rss);
+        }
+
+        Sample sample = new Sample(latencyMs, jsHeap, rss, reason);
+        record(driver, sample);
+        if (!sample.healthy()) {
+            logger.info("Browser session marked for recycling: {}", reason);
+        }
+        return sample;
+    }
+
+    private static String thresholdBreach(ConfigManager config, long latencyMs, long jsHeap, long rss) {
+        long maxRssMb = config.intValue("ui.health.maxRssMb", 2048);
+        long maxHeapMb = config.intValue("ui.health.maxJsHeapMb", 512);
+        Duration maxLatency = config.duration("ui.health.maxLatency", ChronoUnit.SECONDS, Duration.ofSeconds(3));
+
+        if (maxRssMb > 0 && rss > maxRssMb * MB) {
+            return "rss " + rss / MB + "MB > " + maxRssMb + "MB";
+        }
+        if (maxHeapMb > 0 && jsHeap > maxHeapMb * MB) {
+            return "js heap " + jsHeap / MB + "MB > " + maxHeapMb + "MB";
+        }
+        if (!maxLatency.isZero() && latencyMs > maxLatency.toMillis()) {
+            return "command latency " + latencyMs + "ms > " + maxLatency.toMillis() + "ms";
+        }
+        return null;
+    }
+
+    /** @return latency of a trivial command in ms, or -1 if the session did not answer in time */
+    private static long probeLatency(WebDriver driver, Duration timeout) {
+        long start = System.nanoTime();
+        Future<?> probe = PROBE.submit(driver::getWindowHandle);
+        try {
+            probe.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        } catch (TimeoutException e) {
+            probe.cancel(true);
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        } catch (Exception e) {
+            logger.debug("Health probe failed: {}", e.getMessage());
+            return -1;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static long jsHeapUsed(WebDriver driver) {
+        if (!(driver instanceof HasCdp)) {
+            return -1;
+        }
+        HasCdp cdp = (HasCdp) driver;
+        try {
+            if (CDP_ENABLED.putIfAbsent(driver, Boolean.TRUE) == null) {
+                cdp.executeCdpCommand("Performance.enable", new HashMap<>());
+            }
+            Object metrics = cdp.executeCdpCommand("Performance.getMetrics", new HashMap<>()).get("metrics");
+            if (metrics instanceof List) {
+                for (Map<String, Object> metric : (List<Map<String, Object>>) metrics) {
+                    if ("JSHeapUsedSize".equals(metric.get("name")) && metric.get("value") instanceof Number) {
+                        return ((Number) metric.get("value")).longValue();
+                    }
+                }
+            }
+        } catch (Exception e) {
+            logger.debug("CDP Performance.getMetrics unavailable: {}", e.getMessage());
+        }
+        return -1;
+    }
+
+    /** Resident memory of the browser process and all its children (renderers, GPU...). */
+    private static long processTreeRss(WebDriver driver) {
+        if (!Files.isDirectory(PROC)) {
+            return -1;
+        }
+        Long root = ROOT_PIDS.computeIfAbsent(driver, SessionHealthMonitor::findBrowserPid);
+        if (root == null || root < 0) {
+            return -1;
+        }
+
+        Map<Long, List<Long>> children = new HashMap<>();
+        try (Stream<Path> processes = Files.list(PROC)) {
+            processes.forEach(dir -> {
+                long pid = pidOf(dir);
+                long parent = pid < 0 ? -1 : parentPid(dir);
+                if (parent >= 0) {
+                    children.computeIfAbsent(parent, key -> new ArrayList<>()).add(pid);
+                }
+            });
+        } catch (IOException e) {
+            return -1;
+        }
+
+        long total = 0;
+        Deque<Long> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            long pid = pending.pop();
+            total += rssOf(pid);
+            pending.addAll(children.getOrDefault(pid, Collections.emptyList()));
+        }
+        return total > 0 ? total : -1;
+    }
+
+    /**
+     * Firefox reports its pid (moz:processID). Chrome reports its profile dir (chrome.userDataDir),
+     * which identifies the browser process on the command line.
+     */
+    @SuppressWarnings("unchecked")
+    private static Long findBrowserPid(WebDriver driver) {
+        if (!(driver instanceof HasCapabilities)) {
+            return -1L;
+        }
+        Capabilities caps = ((HasCapabilities) driver).getCapabilities();
+        Object firefoxPid = caps.getCapability("moz:processID");
+        if (firefoxPid instanceof Number) {
+            return ((Number) firefoxPid).longValue();
+        }
+        Object chrome = caps.getCapability("chrome");
+        Object userDataDir = chrome instanceof Map ? ((Map<String, Object>) chrome).get("userDataDir") : null;
+        if (userDataDir == null) {
+            return -1L;
+        }
+        String flag = "--user-data-dir=" + userDataDir;
+        try (Stream<Path> processes = Files.list(PROC)) {
+            return processes
+                .filter(dir -> pidOf(dir) >= 0)
+                .filter(dir -> {
+                    String cmdline = cmdlineOf(dir);
+                    return cmdline.contains(flag) && !cmdline.contains("--type=");
+                })
+                .map(SessionHealthMonitor::pidOf)
+                .findFirst()
+                .orElse(-1L);
+        } catch (IOException e) {
+            return -1L;
+        }
+    }
+
+    private static long pidOf(Path dir) {
+        String name = dir.getFileName().toString();
+        return name.chars().allMatch(Character::isDigit) ? Long.parseLong(name) : -1;
+    }
+
+    private static long parentPid(Path dir) {
+        try {
+            String stat = new String(Files.readAllBytes(dir.resolve("stat")), StandardCharsets.UTF_8);
+            // "pid (comm) state ppid ..." - comm may contain spaces, so parse after the last ')'
+            String[] fields = stat.substring(stat.lastIndexOf(')') + 2).split(" ");
+            return Long.parseLong(fields[1]);
+        } catch (IOException | RuntimeException e) {
+            return -1;
+        }
+    }
+
+    private static String cmdlineOf(Path dir) {
+        try {
+            return new String(Files.readAllBytes(dir.resolve("cmdline")), StandardCharsets.UTF_8).replace('\0', ' ');
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    private static long rssOf(long pid) {
+        try (Stream<String> lines = Files.lines(PROC.resolve(Long.toString(pid)).resolve("status"))) {
+            return lines
+                .filter(line -> line.startsWith("VmRSS:"))
+                .map(line -> Long.parseLong(line.replaceAll("[^0-9]", "")) * 1024L)
+                .findFirst()
+                .orElse(0L);
+        } catch (IOException | RuntimeException e) {
+            return 0;
+        }
+    }
+
+    private static void record(WebDriver driver, Sample sample) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("thread", Thread.currentThread().getName());
+        fields.put("session", Integer.toHexString(System.identityHashCode(driver)));
+        fields.put("latencyMs", sample.latencyMs());
+        fields.put("jsHeapMb", sample.jsHeapBytes() < 0 ? null : sample.jsHeapBytes() / MB);
+        fields.put("rssMb", sample.rssBytes() < 0 ? null : sample.rssBytes() / MB);
+        fields.put("healthy", sample.healthy());
+        fields.put("reason", sample.recycleReason());
+        RunMetrics.record("session-health", fields);
+    }
+}
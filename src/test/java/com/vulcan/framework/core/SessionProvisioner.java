@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.core;
+
+import com.vulcan.framework.config.ConfigManager;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * SessionProvisioner launches browser sessions ahead of time, so launch time
+ * overlaps with scenario execution instead of adding to it.
+ *
+ * How it works:
+ * - At suite startup (see SessionProvisioningPlugin) it is sized from the number of selected
+ *   UI scenarios and ui.parallelism, and launches that many sessions in the background.
+ * - DriverFactory takes sessions from the ready pool; when none is ready it waits for an
+ *   in-flight launch, and only launches synchronously as a last resort (no launch left in
+ *   flight, e.g. because the awaited one failed, or ui.provisioning.launchTimeout elapsed).
+ * - After every acquire it tops the pool up to ui.provisioning.spares ready sessions
+ *   (never more than the UI scenarios still expected).
+ * - With ui.session.reuse=true, released sessions are reset (cookies, storage, about:blank)
+ *   and returned to the pool; broken sessions, and sessions SessionHealthMonitor reports as
+ *   unhealthy (memory/latency thresholds), are quit and replaced by spares.
+ *
+ * Configuration:
+ * - ui.provisioning.enabled (default false)
+ * - ui.parallelism          (default 1)  worker threads using browsers in this JVM
+ * - ui.provisioning.spares  (default 1)  ready sessions kept while scenarios remain
+ * - ui.session.reuse        (default false)
+ *
+ * When provisioning is not active, acquire() simply launches a session (previous behavior).
+ */
+public final class SessionProvisioner {
+
+    private static final Logger logger = LogManager.getLogger(SessionProvisioner.class);
+
+    private static volatile Pool pool;
+
+    private SessionProvisioner() {
+        // Utility class: prevent instantiation
+    }
+
+    /**
+     * Starts provisioning for the suite. No-op when disabled or when no UI scenario is expected.
+     *
+     * @param expectedUiScenarios number of selected UI scenarios in this JVM
+     */
+    public static synchronized void start(int expectedUiScenarios) {
+        if (pool != null) {
+            return;
+        }
+        ConfigManager config = ConfigManager.getInstance();
+        if (!config.booleanValue("ui.provisioning.enabled", false)) {
+            logger.debug("Session provisioning disabled (ui.provisioning.enabled=false)");
+            return;
+        }
+        if (expectedUiScenarios <= 0) {
+            logger.info("Session provisioning skipped: no UI scenarios selected");
+            return;
+        }
+
+        int parallelism = Math.max(1, config.intValue("ui.parallelism", 1));
+        int spares = Math.max(0, config.intValue("ui.provisioning.spares", 1));
+        boolean reuse = config.booleanValue("ui.session.reuse", false);
+        Duration launchTimeout = config.duration("ui.provisioning.launchTimeout", ChronoUnit.SECONDS, Duration.ofSeconds(60));
+
+        pool = new Pool(expectedUiScenarios, parallelism, spares, reuse, launchTimeout);
+        pool.warmUp();
+    }
+
+    /** @return true while a provisioning pool is running */
+    public static boolean isActive() {
+        return pool != null;
+    }
+
+    /** @return true when released sessions may go back to the pool (running pool with ui.session.reuse=true) */
+    static boolean isRecycling() {
+        Pool current = pool;
+        return current != null && current.reuse && !current.closed;
+    }
+
+    /** @return a ready session from the pool, or a freshly launched one when provisioning is off */
+    static WebDriver acquire() {
+        Pool current = pool;
+        return current == null ? DriverFactory.launchSession() : current.acquire();
+    }
+
+    /**
+     * Offers a released session back to the pool.
+     *
+     * @param health the release-time health sample; unhealthy sessions are quit and replaced
+     * @return true if the pool took ownership; false if the caller must quit the session
+     */
+    static boolean recycle(WebDriver driver, SessionHealthMonitor.Sample health) {
+        Pool current = pool;
+        return current != null && current.recycle(driver, health);
+    }
+
+    /** Stops launching and quits every session still waiting in the pool. */
+    public static synchronized void shutdown() {
+        Pool current = pool;
+        pool = null;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    /** The running pool. Separate object so shutdown/start swaps are atomic. */
+    private static final class Pool {
+        private final BlockingDeque<WebDriver> ready = new LinkedBlockingDeque<>();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger remainingDemand;
+        private final int parallelism;
+        private final int spares;
+        private final boolean reuse;
+        private final Duration launchTimeout;
+        private final ExecutorService launcher;
+        private volatile boolean closed;
+
+        private Pool(int demand, int parallelism, int spares, boolean reuse, Duration launchTimeout) {
+            this.remainingDemand = new AtomicInteger(demand);
+            this.parallelism = parallelism;
+            this.spares = spares;
+            this.reuse = reuse;
+            this.launchTimeout = launchTimeout;
+            AtomicInteger threads = new AtomicInteger();
+            this.launcher = Executors.newFixedThreadPool(parallelism, runnable -> {
+                Thread thread = new Thread(runnable, "vulcan-session-launcher-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        private void warmUp() {
+            int initial = Math.min(remainingDemand.get(), parallelism);
+            logger.info("Pre-warming {} browser session(s) | expectedUiScenarios={} | parallelism={} | spares={} | reuse={}",
+                initial, remainingDemand.get(), parallelism, spares, reuse);
+            launch(initial);
+        }
+
+        private WebDriver acquire() {
+            remainingDemand.decrementAndGet();
+            WebDriver session = ready.pollFirst();
+            try {
+                if (session == null && inFlight.get() > 0) {
+                    // A launch is already running: waiting for it is never slower than starting another one.
+                    session = awaitLaunch();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            topUp();
+
+            if (session == null) {
+                logger.info("No pre-warmed session ready. Launching synchronously.");
+                return DriverFactory.launchSession();
+            }
+            logger.info("Using pre-warmed browser session | ready={} | inFlight={}", ready.size(), inFlight.get());
+            return session;
+        }
+
+        /**
+         * Waits for a session to become ready while launches are in flight.
+         * Returns null as soon as none is left in flight (a failed launch signals too),
+         * or when launchTimeout elapses.
+         */
+        private WebDriver awaitLaunch() throws InterruptedException {
+            long deadline = System.nanoTime() + launchTimeout.toNanos();
+            synchronized (this) {
+                while (true) {
+                    WebDriver session = ready.pollFirst();
+                    if (session != null || inFlight.get() == 0) {
+                        return session;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        return null;
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                }
+            }
+        }
+
+        /** Wakes acquire() calls waiting in awaitLaunch(). */
+        private synchronized void signalWaiters() {
+            notifyAll();
+        }
+
+        private boolean recycle(WebDriver driver, SessionHealthMonitor.Sample health) {
+            if (!reuse || closed) {
+                return false;
+            }
+            if (!health.healthy()) {
+                // Proactive recycling: replace the session before it slows down later scenarios
+                quitQuietly(driver);
+                topUp();
+                return true;
+            }
+            if (ready.size() >= parallelism + spares) {
+                logger.debug("Session pool full. Quitting released session.");
+                return false;
+            }
+            try {
+                driver.manage().deleteAllCookies();
+                if (driver instanceof JavascriptExecutor) {
+                    ((JavascriptExecutor) driver).executeScript(
+                        "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+                }
+                driver.get("about:blank");
+            } catch (Exception e) {
+                logger.warn("Released session is unhealthy ({}). Replacing it with a spare.", e.getClass().getSimpleName());
+                quitQuietly(driver);
+                topUp();
+                return true;
+            }
+            ready.offerLast(driver);
+            signalWaiters();
+            logger.debug("Session recycled into pool | ready={}", ready.size());
+            return true;
+        }
+
+        /** Keeps ready + in-flight sessions at min(spares, scenarios still expected). */
+        private void topUp() {
+            int desired = Math.min(spares, Math.max(0, remainingDemand.get()));
+            int missing = desired - (ready.size() + inFlight.get());
+            if (missing > 0) {
+                launch(missing);
+            }
+        }
+
+        private void launch(int count) {
+            for (int i = 0; i < count && !closed; i++) {
+                inFlight.incrementAndGet();
+                launcher.execute(() -> {
+                    try {
+                        WebDriver session = DriverFactory.launchSession();
+                        if (closed) {
+                            quitQuietly(session);
+                        } else {
+                            ready.offerLast(session);
+                        }
+                    } catch (Exception e) {
+                        logger.warn("Background browser launch failed: {}", e.getMessage(), e);
+                    } finally {
+                        inFlight.decrementAndGet();
+                        // Success or failure: waiters re-check, and fall back at once when nothing is left in flight
+                        signalWaiters();
+                    }
+                });
+            }
+        }
+
+        private void close() {
+            closed = true;
+            launcher.shutdown();
+            int quit = 0;
+            WebDriver session;
+            while ((session = ready.pollFirst()) != null) {
+                quitQuietly(session);
+                quit++;
+            }
+            logger.info("Session provisioning stopped | unused sessions quit={}", quit);
+        }
+
+        private static void quitQuietly(WebDriver driver) {
+            try {
+                driver.quit();
+            } catch (Exception e) {
+                logger.debug("Ignoring error while quitting session: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -11,9 +11,16 @@
 
 package com.vulcan.framework.core;
 
+import com.vulcan.framework.shared.jfr.CurrentScenario;
+import com.vulcan.framework.shared.jfr.WaitEvent;
+import com.vulcan.framework.shared.metrics.FrameworkMetrics;
+
 import java.time.Duration;
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
@@ -45,24 +52,62 @@ public class WaitUtils {
 
     /** Wait until element is visible. Returns the same element once visible */    
     public WebElement waitForVisible(WebElement element) {
-        return new WebDriverWait(driver, timeout)
-            .until(ExpectedConditions.visibilityOf(element));
+        return until(ExpectedConditions.visibilityOf(element));
     }
 
     /** Wait until element is clickable. Returns the same element once clickable */
     public WebElement waitForClickable(WebElement element) {
-        return new WebDriverWait(driver, timeout)
-            .until(ExpectedConditions.elementToBeClickable(element));
+        return until(ExpectedConditions.elementToBeClickable(element));
     }
     /** Wait until title contains expected text */
     public boolean waitForTitleContains(String expectedText) {
-        return new WebDriverWait(driver, timeout)
-            .until(ExpectedConditions.titleContains(expectedText));
+        return until(ExpectedConditions.titleContains(expectedText));
+    }
+
+    /**
+     * Wait until the element located by {@code locator} is visible.
+     * Returns false on timeout instead of throwing (used as a page readiness signal).
+     */
+    public boolean waitForReady(By locator) {
+        try {
+            until(ExpectedConditions.visibilityOfElementLocated(locator));
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
     }
 
     /** Wait until URL contains expected text */
     public boolean waitForUrlContains(String expectedText) {
-        return new WebDriverWait(driver, timeout)
-            .until(ExpectedConditions.urlContains(expectedText));
+        return until(ExpectedConditions.urlContains(expectedText));
+    }
+
+    /**
+     * Waits for a condition and records a JFR WaitEvent (condition + outcome)
+     * when a recording is running.
+     */
+    private <T> T until(ExpectedCondition<T> condition) {
+        long start = System.nanoTime();
+        WaitEvent event = new WaitEvent();
+        event.begin();
+        String outcome = "error";
+        try {
+            T result = new WebDriverWait(driver, timeout).until(condition);
+            outcome = "satisfied";
+            return result;
+        } catch (TimeoutException e) {
+            outcome = "timeout";
+            throw e;
+        } finally {
+            event.end();
+            FrameworkMetrics.WAITS.observeNanos(System.nanoTime() - start, outcome);
+            if (event.shouldCommit()) {
+                event.scenario = CurrentScenario.get();
+                event.condition = String.valueOf(condition);
+                event.outcome = outcome;
+                event.timeout = timeout.toMillis();
+                event.commit();
+            }
+        }
     }
 }
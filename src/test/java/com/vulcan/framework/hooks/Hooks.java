@@ -12,18 +12,27 @@
 package com.vulcan.framework.hooks;
 
 import com.vulcan.framework.config.ConfigManager;
+import com.vulcan.framework.core.BrowserLifecycle;
 import com.vulcan.framework.core.DriverFactory;
+import com.vulcan.framework.core.NetworkCapture;
 import com.vulcan.framework.shared.context.ApiClientRegistry;
 import com.vulcan.framework.shared.context.DataRegistry;
 import com.vulcan.framework.shared.context.ScenarioContext;
 import com.vulcan.framework.shared.context.ScenarioKeys;
+import com.vulcan.framework.shared.jfr.CurrentScenario;
+import com.vulcan.framework.shared.logging.ScenarioLogs;
+import com.vulcan.framework.shared.metrics.FrameworkMetrics;
 
 import io.cucumber.java.After;
 import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
 
 import java.net.URI;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 
 
 import org.apache.logging.log4j.LogManager;
@@ -40,9 +49,9 @@ import io.qameta.allure.Allure;
  *
  * <ul>
  *   <li>Determining if a scenario is UI or API (folder-based + tag-based fallback)</li>
- *   <li>Starting the browser and navigating to the UI base URL for UI scenarios</li>
+ *   <li>Preparing a lazy browser session (started + navigated to the UI base URL on first use) for UI scenarios</li>
  *   <li>Skipping browser setup for API scenarios</li>
- *   <li>Performing teardown: browser shutdown (UI only), scenario cleanup actions, and context cleanup</li>
+ *   <li>Performing teardown: browser shutdown (only if used), scenario cleanup actions, and context cleanup</li>
  * </ul>
  *
  * Key design goals:
@@ -56,149 +65,158 @@ import io.qameta.allure.Allure;
 public class Hooks {
 
     private static final Logger logger = LogManager.getLogger(Hooks.class);
-    /**
-     * Tracks whether a browser was started for the current scenario.
-     *
-     * Why ThreadLocal?
-     * - Safe for future parallel execution
-     * - Prevents one scenario from affecting another scenario’s teardown behavior
-     */
-    private static final ThreadLocal<Boolean> uiBrowserStarted = ThreadLocal.withInitial(() -> false);
 
     /**
      * Runs before each scenario.
      *
      * For API scenarios:
-     * - Skips browser startup entirely.
+     * - Skips browser setup entirely.
      *
      * For UI scenarios:
-     * - Initializes WebDriver (DriverFactory)
      * - Reads ui.baseUrl from configuration
-     * - Navigates to ui.baseUrl
+     * - Prepares a lazy browser session (BrowserLifecycle): the browser is started and
+     *   navigated to ui.baseUrl only when a page object or step first needs it
+     * - @lite scenarios use the in-process lite driver when ui.lite.enabled=true
      */
     @Before
     public void setUp(Scenario scenario) {
 
+        // Correlates framework JFR events with this scenario
+        CurrentScenario.set(scenario.getName());
+
+        // Keep this scenario's DEBUG/INFO logs in memory; they are printed only if it fails
+        ScenarioLogs.begin();
+
         // Decide scenario type first (API vs UI)
         if (isApiScenario(scenario)) {
             logger.info("API scenario detected. Skipping browser setup. Scenario='{}'", scenario.getName());
-            uiBrowserStarted.set(false);
+            BrowserLifecycle.prepare(null);
             return;
         }
 
-        // UI scenario: start browser and navigate to base URL
-        logger.info("UI scenario detected. Setting up browser. Scenario='{}'", scenario.getName());
-        uiBrowserStarted.set(true);      
-
-        // Get the browser instance from DriverFactory
-        WebDriver driver = DriverFactory.getDriver();
+        // UI scenario: browser is provisioned on first use
+        boolean lite = ScenarioClassifier.runsLite(scenario.getSourceTagNames());
+        logger.info("UI scenario detected. {} will start on first use. Scenario='{}'",
+            lite ? "Lite driver" : "Browser", scenario.getName());
 
         // Read the base URL from gradle.properties
         String baseUrl = ConfigManager.getInstance().get("ui.baseUrl");
-
-        // Navigate to the base URL
-        logger.info("Navigating to baseUrl: {}", baseUrl);
-        driver.get(baseUrl);
+        BrowserLifecycle.prepare(baseUrl, lite);
     }
 
     /**
      * Runs after each scenario.
      *
-     * Teardown order (important):
-     * 1) Quit browser only if it was started for this scenario (UI only)
-     * 2) Execute DataRegistry cleanup actions (API/UI/Hybrid)
-     * 3) Clear ThreadLocals + ScenarioContext to avoid leaks
+     * Teardown is a small stage graph (see {@link TeardownPlan}):
+     * 0) Screenshot on UI failure, BEFORE the browser is quit (scenario thread: Allure is thread-bound)
+     *    plus the network waterfall attachment when ui.network.capture=true
+     * 1) Quit browser (only if it was used) in the background, after the screenshot
+     * 2) Execute DataRegistry cleanup actions (API/UI/Hybrid) on the scenario thread, overlapping with 1)
+     * 3) Clear ApiClientRegistry
+     * 4) Clear ThreadLocals + ScenarioContext to avoid leaks (always, in finally)
+     * 5) Stage durations go to FrameworkMetrics (vulcan_teardown_stage_seconds)
+     * 6) Buffered scenario log: discarded on pass, printed + attached to Allure on failure
      *
-     * We use a try/finally to guarantee cleanup happens even if quitDriver fails.
+     * Every stage is isolated: one failing stage never prevents the others.
+     * The whole graph is bounded by teardown.timeout.
      */
     @After
     public void tearDown(Scenario scenario) {
 
         // Capture some info early (safe to use after cleanup)
         final String scenarioName = scenario.getName();
-        final boolean uiStarted = Boolean.TRUE.equals(uiBrowserStarted.get());
+        final boolean browserUsed = BrowserLifecycle.isUsed();
+
+        // Take ownership of the browser on this thread; the quit stage may run elsewhere.
+        // A browser that was never used in this scenario was never started: nothing to capture or quit.
+        final WebDriver driver = browserUsed ? DriverFactory.detachDriver() : null;
 
-        Exception browserQuitError = null;
-        Exception screenshotError = null;
-        Exception dataCleanupError = null;
-        Exception apiRegistryClearError = null;
+        Map<String, TeardownPlan.StageResult> stages = Collections.emptyMap();
 
         try {
-            // 0) Screenshot on UI failure BEFORE quitting browser
-            try {
-                if (uiStarted && scenario.isFailed()) {
-                    attachUiFailureScreenshot(scenarioName);
-                }
-            } catch (Exception e) {
-                screenshotError = e;
-                logger.error("Screenshot capture failed for Scenario='{}': {}", scenarioName, e.getMessage(), e);
-            }
-            // 1) Quit browser (UI only)
-            try {
-                if (uiStarted && DriverFactory.isDriverInitialized()) {
-                    logger.info("UI scenario finished. Quitting browser. Scenario='{}'", scenarioName);
-                    DriverFactory.quitDriver();
-                } else {
-                    logger.info("No browser to quit for Scenario='{}'", scenarioName);
-                }
-            } catch (Exception e) {
-                browserQuitError = e;
-                logger.error("Browser teardown failed for Scenario='{}': {}", scenarioName, e.getMessage(), e);
-            }
+            TeardownPlan plan = new TeardownPlan(scenarioName)
+
+                // 0) Screenshot on UI failure BEFORE quitting browser
+                .onCallerThread("screenshot", () -> {
+                    if (driver != null && scenario.isFailed()) {
+                        attachUiFailureScreenshot(driver, scenarioName);
+                    }
+                })
+
+                // 0b) Network waterfall (ui.network.capture=true) BEFORE the session is released
+                .onCallerThread("networkCapture", () -> NetworkCapture.finish(scenarioName))
+
+                // 1) Quit browser (only if used) - usually the slowest stage, so it runs in the background.
+                //    With ui.session.reuse=true the session is recycled into the provisioning pool instead.
+                .async("browserQuit", () -> {
+                    if (driver != null) {
+                        logger.info("UI scenario finished. Releasing browser. Scenario='{}'", scenarioName);
+                        CurrentScenario.run(scenarioName, () -> DriverFactory.releaseDriver(driver));
+                    } else {
+                        logger.info("No browser to quit for Scenario='{}'", scenarioName);
+                    }
+                }, "screenshot", "networkCapture")
+
+                // 2) Run DataRegistry cleanup actions (API/UI/Hybrid)
+                .onCallerThread("dataCleanup", () -> {
+                    DataRegistry dataRegistry = ScenarioContext.getOptional(ScenarioKeys.DATA_REGISTRY, DataRegistry.class);
+                    if (dataRegistry != null && !dataRegistry.isEmpty()) {
+                        logger.info("Running DataRegistry cleanup actions ({} action(s)) for Scenario='{}'",
+                            dataRegistry.size(), scenarioName);
+                        dataRegistry.cleanupAll();
+                    } else {
+                        logger.info("No DataRegistry cleanup actions for Scenario='{}'", scenarioName);
+                    }
+                })
+
+                // 3) Clear ApiClientRegistry (per-scenario API clients)
+                .onCallerThread("apiRegistryClear", () -> {
+                    ApiClientRegistry registry = ScenarioContext.getOptional(
+                        ScenarioKeys.API_CLIENT_REGISTRY,
+                        ApiClientRegistry.class
+                    );
+
+                    if (registry != null) {
+                        logger.info("Clearing ApiClientRegistry ({} clients) for Scenario='{}'",
+                            registry.size(), scenarioName);
+                        registry.clear();
+                    } else {
+                        logger.info("No ApiClientRegistry to clear for Scenario='{}'", scenarioName);
+                    }
+                });
+
+            stages = plan.run(teardownTimeout());
+
+        } finally {
+            // 4) Always clear ThreadLocals + ScenarioContext to avoid leaks
+            BrowserLifecycle.reset();
+            ScenarioContext.clear();
+            CurrentScenario.clear();
 
-            // 2) Run DataRegistry cleanup actions (API/UI/Hybrid)
-            try {
-                DataRegistry dataRegistry = ScenarioContext.getOptional(ScenarioKeys.DATA_REGISTRY, DataRegistry.class);
-                if (dataRegistry != null && !dataRegistry.isEmpty()) {
-                    logger.info("Running DataRegistry cleanup actions ({} action(s)) for Scenario='{}'",
-                        dataRegistry.size(), scenario.getName());
-                    dataRegistry.cleanupAll();
-                } else {
-                    logger.info("No DataRegistry cleanup actions for Scenario='{}'", scenarioName);
-                }
-            } catch (Exception e) {
-                dataCleanupError = e;
-                logger.error("DataRegistry cleanup failed for Scenario='{}': {}", scenarioName, e.getMessage(), e);
+            for (TeardownPlan.StageResult stage : stages.values()) {
+                FrameworkMetrics.TEARDOWN_STAGES.observe(stage.durationMs() / 1000d, stage.name(), stage.outcome());
             }
 
-            // 3) Clear ApiClientRegistry (per-scenario API clients)
-            try {
-                ApiClientRegistry registry = ScenarioContext.getOptional(
-                    ScenarioKeys.API_CLIENT_REGISTRY,
-                    ApiClientRegistry.class
+            // 5) Summary (high-signal logging, with per-stage timing; describe() only runs when INFO is on)
+            if (logger.isInfoEnabled()) {
+                logger.info(
+                    "Scenario teardown complete | name='{}' | browserUsed={} | status={} | stages=[{}]",
+                    scenarioName,
+                    browserUsed,
+                    scenario.getStatus(),
+                    TeardownPlan.describe(stages)
                 );
-
-                if (registry != null) {
-                    logger.info("Clearing ApiClientRegistry ({} clients) for Scenario='{}'",
-                        registry.size(), scenarioName);
-                    registry.clear();
-                } else {
-                    logger.info("No ApiClientRegistry to clear for Scenario='{}'", scenarioName);
-                }
-            } catch (Exception e) {
-                apiRegistryClearError = e;
-                logger.error("ApiClientRegistry cleanup failed for Scenario='{}': {}", scenarioName, e.getMessage(), e);
             }
 
-        } finally {
-            // 4) Always clear ThreadLocals + ScenarioContext to avoid leaks
-            uiBrowserStarted.remove();
-            ScenarioContext.clear();
-
-            // 5) Summary (high-signal logging)
-            logger.info(
-                "Scenario teardown complete | name='{}' | uiStarted={} | status={} | browserQuitError={} | dataCleanupError={} | apiRegistryError={}",
-                scenarioName,
-                uiStarted,
-                scenario.getStatus(),
-                (screenshotError != null),
-                (browserQuitError != null),
-                (dataCleanupError != null),
-                (apiRegistryClearError != null)
-            );
+            // 6) Scenario log (ScenarioLog appender): only failed scenarios are printed and attached
+            attachScenarioLog(ScenarioLogs.finish(scenario.isFailed()), scenarioName);
         }
     }
 
+    /** Overall teardown budget (teardown.timeout, default 30s). */
+    private Duration teardownTimeout() {
+        return ConfigManager.getInstance().duration("teardown.timeout", ChronoUnit.SECONDS, Duration.ofSeconds(30));
+    }
 
     /**
      * Determines whether the current scenario should be treated as an API scenario.
@@ -208,51 +226,55 @@ public class Hooks {
      * 2) Folder-based (feature file path contains /features/api/) as the primary rule
      *
      * Folder-based detection is preferred because it does not rely on humans remembering tags.
+     * The rules live in {@link ScenarioClassifier} so plugins classify pickles the same way.
      */
     private boolean isApiScenario(Scenario scenario) {
-        // 1) Tag-based detection
         Collection<String> tags = scenario.getSourceTagNames();
-        if (tags.contains("@api")) {
-            return true;
-        }
 
-        // 2) Folder-based detection (feature path contains /features/api/)
-        // This works even if someone forgets to tag scenarios.
+        // Folder-based detection works even if someone forgets to tag scenarios.
+        String uri = null;
         try {
-            URI uri = scenario.getUri(); // available in Cucumber 7+
-            if (uri != null) {
-                String path = uri.toString().replace("\\", "/");
-                return path.contains("/features/api/");
+            URI scenarioUri = scenario.getUri(); // available in Cucumber 7+
+            if (scenarioUri != null) {
+                uri = scenarioUri.toString();
             }
         } catch (Exception ignored) {
             // If getUri() isn't available in your setup for any reason, we simply rely on tags.
         }
 
-        return false;
+        return ScenarioClassifier.isApi(tags, uri);
     }
 
-    private void attachUiFailureScreenshot(String scenarioName) {
-    try {
-        if (!DriverFactory.isDriverInitialized()) return;
+    private void attachScenarioLog(byte[] log, String scenarioName) {
+        if (log == null) {
+            return;
+        }
+        try {
+            Allure.getLifecycle().addAttachment("Scenario log - " + scenarioName, "text/plain", "log", log);
+        } catch (Exception e) {
+            logger.warn("Failed to attach scenario log for scenario='{}': {}", scenarioName, e.getMessage());
+        }
+    }
 
-        WebDriver driver = DriverFactory.getDriver();
-        if (!(driver instanceof TakesScreenshot)) return;
+    private void attachUiFailureScreenshot(WebDriver driver, String scenarioName) {
+        try {
+            if (!(driver instanceof TakesScreenshot)) return;
 
-        byte[] png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+            byte[] png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
 
-        // Allure will show it under "Attachments"
-        Allure.getLifecycle().addAttachment(
-            "UI Failure Screenshot - " + scenarioName,
-            "image/png",
-            "png",
-            png
-        );
+            // Allure will show it under "Attachments"
+            Allure.getLifecycle().addAttachment(
+                "UI Failure Screenshot - " + scenarioName,
+                "image/png",
+                "png",
+                png
+            );
 
-        logger.info("Attached Allure screenshot for failed scenario='{}'", scenarioName);
+            logger.info("Attached Allure screenshot for failed scenario='{}'", scenarioName);
 
-    } catch (Exception e) {
-        logger.warn("Failed to attach Allure screenshot for scenario='{}': {}", scenarioName, e.getMessage());
+        } catch (Exception e) {
+            logger.warn("Failed to attach Allure screenshot for scenario='{}': {}", scenarioName, e.getMessage());
+        }
     }
-}
 
 }
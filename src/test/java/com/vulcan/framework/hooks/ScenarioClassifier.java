@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.hooks;
+
+import com.vulcan.framework.config.ConfigManager;
+
+import java.util.Collection;
+
+/**
+ * Single source of truth for "is this an API scenario?" and "can it run without a real browser?".
+ *
+ * Detection strategy:
+ * 1) Tag-based (@api) as a convenience
+ * 2) Folder-based (feature file path contains /features/api/) as the primary rule
+ *
+ * Shared by Hooks (per scenario) and by plugins that classify pickles before the run starts.
+ */
+public final class ScenarioClassifier {
+
+    private ScenarioClassifier() {
+        // Utility class: prevent instantiation
+    }
+
+    /**
+     * @param tags scenario tags, including inherited feature tags (e.g. "@api")
+     * @param uri feature file URI as a string, or null if unknown
+     */
+    public static boolean isApi(Collection<String> tags, String uri) {
+        if (tags.contains("@api")) {
+            return true;
+        }
+        if (uri != null) {
+            String path = uri.replace("\\", "/");
+            return path.contains("/features/api/");
+        }
+        return false;
+    }
+
+    /**
+     * UI scenarios tagged @lite only use basic DOM features (e.g. form visibility checks).
+     * With ui.lite.enabled=true they run on the in-process lite driver instead of a browser.
+     *
+     * @param tags scenario tags, including inherited feature tags
+     */
+    public static boolean runsLite(Collection<String> tags) {
+        return tags.contains("@lite") && ConfigManager.getInstance().booleanValue("ui.lite.enabled", false);
+    }
+}
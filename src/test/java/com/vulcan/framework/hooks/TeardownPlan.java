@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.hooks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * TeardownPlan is a small stage graph used by {@link Hooks} after each scenario.
+ *
+ * <p>Each stage has a name, an action, the stages it depends on and where it runs:</p>
+ * <ul>
+ *   <li><b>caller thread</b>: for work bound to the scenario thread
+ *       (ScenarioContext and Allure attachments are ThreadLocal-based).</li>
+ *   <li><b>async</b>: for slow, thread-independent work (e.g. quitting the browser).</li>
+ * </ul>
+ *
+ * <p>Stages run in declaration order; an async stage starts as soon as its dependencies finish,
+ * so it overlaps with the caller-thread stages declared after it.</p>
+ *
+ * <p>Error isolation (same rules as the original sequential teardown):</p>
+ * <ul>
+ *   <li>A failing stage is logged and recorded; it never stops other stages.</li>
+ *   <li>Dependents still run after a failed dependency (e.g. quit after a failed screenshot).</li>
+ *   <li>Stages still running when the overall timeout expires are reported as timed out.</li>
+ * </ul>
+ */
+final class TeardownPlan {
+
+    private static final Logger logger = LogManager.getLogger(TeardownPlan.class);
+
+    /** Shared daemon pool: teardown must never keep the test JVM alive. */
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(new DaemonThreadFactory());
+
+    /** Stage body. Allowed to throw; failures are recorded, not propagated. */
+    @FunctionalInterface
+    interface Action {
+        void run() throws Exception;
+    }
+
+    /** Outcome of one stage. */
+    static final class StageResult {
+        private final String name;
+        private final long durationMs;
+        private final Throwable error;
+        private final boolean timedOut;
+
+        private StageResult(String name, long durationMs, Throwable error, boolean timedOut) {
+            this.name = name;
+            this.durationMs = durationMs;
+            this.error = error;
+            this.timedOut = timedOut;
+        }
+
+        String name() {
+            return name;
+        }
+
+        long durationMs() {
+            return durationMs;
+        }
+
+        boolean failed() {
+            return error != null || timedOut;
+        }
+
+        /** @return ok, error or timeout */
+        String outcome() {
+            return timedOut ? "timeout" : (error != null ? "error" : "ok");
+        }
+
+        @Override
+        public String toString() {
+            String outcome = timedOut ? "TIMEOUT" : (error != null ? "ERROR" : "ok");
+            return name + "=" + durationMs + "ms(" + outcome + ")";
+        }
+    }
+
+    private static final class Stage {
+        private final String name;
+        private final Action action;
+        private final boolean async;
+        private final List<String> dependsOn;
+
+        private Stage(String name, Action action, boolean async, List<String> dependsOn) {
+            this.name = name;
+            this.action = action;
+            this.async = async;
+            this.dependsOn = dependsOn;
+        }
+    }
+
+    private final String scenarioName;
+    private final Map<String, Stage> stages = new LinkedHashMap<>();
+    private final Map<String, StageResult> results = new ConcurrentHashMap<>();
+
+    TeardownPlan(String scenarioName) {
+        this.scenarioName = scenarioName;
+    }
+
+    /** Adds a stage executed on the thread that calls {@link #run(Duration)}. */
+    TeardownPlan onCallerThread(String name, Action action, String... dependsOn) {
+        return add(name, action, false, dependsOn);
+    }
+
+    /** Adds a stage executed on the teardown pool. */
+    TeardownPlan async(String name, Action action, String... dependsOn) {
+        return add(name, action, true, dependsOn);
+    }
+
+    private TeardownPlan add(String name, Action action, boolean async, String... dependsOn) {
+        if (stages.containsKey(name)) {
+            throw new IllegalArgumentException("Duplicate teardown stage: " + name);
+        }
+        for (String dependency : dependsOn) {
+            if (!stages.containsKey(dependency)) {
+                throw new IllegalArgumentException(
+                    "Teardown stage '" + name + "' depends on undeclared stage '" + dependency + "'");
+            }
+        }
+        stages.put(name, new Stage(name, action, async, List.of(dependsOn)));
+        return this;
+    }
+
+    /**
+     * Executes all stages and waits for them, up to {@code timeout} overall.
+     *
+     * @return results per stage, in declaration order
+     */
+    Map<String, StageResult> run(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Map<String, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+
+        for (Stage stage : stages.values()) {
+            CompletableFuture<?>[] dependencies = stage.dependsOn.stream()
+                .map(futures::get)
+                .toArray(CompletableFuture[]::new);
+
+            if (stage.async) {
+                futures.put(stage.name, CompletableFuture.allOf(dependencies)
+                    .thenRunAsync(() -> execute(stage), EXECUTOR));
+                continue;
+            }
+
+            // Caller-thread stage: wait for its dependencies (bounded by the overall deadline).
+            if (await(CompletableFuture.allOf(dependencies), deadline)) {
+                execute(stage);
+            }
+            futures.put(stage.name, CompletableFuture.completedFuture(null));
+        }
+
+        await(CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])), deadline);
+
+        Map<String, StageResult> ordered = new LinkedHashMap<>();
+        for (Stage stage : stages.values()) {
+            StageResult result = results.get(stage.name);
+            if (result == null) {
+                logger.error("Teardown stage '{}' did not finish within {} for Scenario='{}'",
+                    stage.name, timeout, scenarioName);
+                result = new StageResult(stage.name, timeout.toMillis(), null, true);
+            }
+            ordered.put(stage.name, result);
+        }
+        return ordered;
+    }
+
+    /** One-line summary for logs, e.g. "screenshot=0ms(ok) browserQuit=1830ms(ok)". */
+    static String describe(Map<String, StageResult> results) {
+        List<String> parts = new ArrayList<>();
+        for (StageResult result : results.values()) {
+            parts.add(result.toString());
+        }
+        return String.join(" ", parts);
+    }
+
+    private void execute(Stage stage) {
+        long start = System.nanoTime();
+        Throwable error = null;
+        try {
+            stage.action.run();
+        } catch (Throwable e) {
+            error = e;
+            logger.error("Teardown stage '{}' failed for Scenario='{}': {}", stage.name, scenarioName, e.getMessage(), e);
+        }
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        results.put(stage.name, new StageResult(stage.name, durationMs, error, false));
+    }
+
+    /** @return true if the future completed before the deadline */
+    private static boolean await(CompletableFuture<?> future, long deadlineNanos) {
+        long remaining = deadlineNanos - System.nanoTime();
+        try {
+            future.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            // Stages never complete exceptionally (execute() records errors); keep going anyway.
+            return true;
+        }
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "vulcan-teardown-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
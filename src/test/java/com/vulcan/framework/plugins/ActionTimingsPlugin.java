@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.plugins;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vulcan.framework.shared.metrics.ActionTimings;
+import com.vulcan.framework.shared.metrics.RunMetrics;
+import com.vulcan.framework.shared.metrics.SuiteAttachments;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestRunFinished;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Cucumber plugin that exports {@link ActionTimings} when the run finishes.
+ *
+ * <ul>
+ *   <li>Merges the per-thread histograms into one row per page/element/action.</li>
+ *   <li>Writes build/reports/vulcan/&lt;suite&gt;/action-timings.json.</li>
+ *   <li>Publishes the same JSON in Allure (suite tear-down attachment, see SuiteAttachments).</li>
+ *   <li>Logs the slowest elements by total time.</li>
+ * </ul>
+ *
+ * Registered through the cucumber.plugin list configured by Gradle.
+ */
+public class ActionTimingsPlugin implements ConcurrentEventListener {
+
+    private static final Logger logger = LogManager.getLogger(ActionTimingsPlugin.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int LOGGED_ROWS = 10;
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestRunFinished.class, event -> export());
+    }
+
+    private void export() {
+        if (!ActionTimings.isEnabled()) {
+            return;
+        }
+        List<Map<String, Object>> rows = ActionTimings.report();
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", Instant.now().toString());
+        report.put("unit", "ms");
+        report.put("actions", rows);
+
+        try {
+            byte[] json = MAPPER.writerWithDefaultPrettyPrinter().writeValueAsBytes(report);
+            Path file = RunMetrics.reportsDir().resolve("action-timings.json");
+            Files.createDirectories(file.getParent());
+            Files.write(file, json);
+            SuiteAttachments.attach("UI action latency", "application/json", ".json", json);
+            logger.info("UI action timings exported | rows={} | file={}", rows.size(), file);
+        } catch (IOException e) {
+            logger.warn("Could not export UI action timings: {}", e.getMessage());
+        }
+
+        for (Map<String, Object> row : rows.subList(0, Math.min(LOGGED_ROWS, rows.size()))) {
+            logger.info("UI ACTION TIME | {}.{} {} | count={} | wait={} | command={}",
+                row.get("page"), row.get("element"), row.get("action"), row.get("count"),
+                row.get("wait"), row.get("command"));
+        }
+    }
+}
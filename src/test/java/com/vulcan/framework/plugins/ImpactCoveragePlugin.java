@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.plugins;
+
+import com.vulcan.framework.config.ConfigManager;
+import com.vulcan.framework.runners.impact.CoverageStore;
+import com.vulcan.framework.shared.history.ScenarioOutcomeStore;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Cucumber plugin that records the framework classes each scenario executes, for test impact
+ * analysis (ImpactAnalyzer, ./gradlew impactSelect).
+ *
+ * <ul>
+ *   <li>Active with vulcan.impact.record=true (Gradle -Pimpact.record, which also attaches the JaCoCo
+ *       agent to the test JVM); a no-op otherwise.</li>
+ *   <li>The agent's probes are reset when a scenario starts and collected when it finishes, so the
+ *       covered classes belong to that scenario only. Scenarios running concurrently would mix their
+ *       probes: record with sequential scenarios (ui.parallelism=1).</li>
+ *   <li>Covered classes are merged into the {@link CoverageStore} when the run finishes.</li>
+ * </ul>
+ *
+ * Registered through the cucumber.plugin list configured by Gradle.
+ */
+public class ImpactCoveragePlugin implements ConcurrentEventListener {
+
+    private static final Logger logger = LogManager.getLogger(ImpactCoveragePlugin.class);
+    private static final String FRAMEWORK_PREFIX = "com.vulcan.framework.";
+
+    private final Map<String, Set<String>> coverage = new ConcurrentHashMap<>();
+    private Object agent;
+    private Method reset;
+    private Method executionData;
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        if (!Boolean.getBoolean("vulcan.impact.record") || !attachAgent()) {
+            return;
+        }
+        if (ConfigManager.getInstance().intValue("ui.parallelism", 1) > 1) {
+            logger.warn("Impact coverage recorded with ui.parallelism > 1: concurrent scenarios share the JaCoCo probes");
+        }
+        publisher.registerHandlerFor(TestCaseStarted.class, event -> invoke(reset));
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onTestCaseFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> record());
+    }
+
+    /** Looks the JaCoCo runtime up by reflection: the agent jar is only on the classpath when recording. */
+    private boolean attachAgent() {
+        try {
+            Class<?> agentType = Class.forName("org.jacoco.agent.rt.IAgent");
+            agent = Class.forName("org.jacoco.agent.rt.RT").getMethod("getAgent").invoke(null);
+            reset = agentType.getMethod("reset");
+            executionData = agentType.getMethod("getExecutionData", boolean.class);
+            return true;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            logger.warn("vulcan.impact.record=true but the JaCoCo agent is not attached ({}); no coverage recorded",
+                e.toString());
+            return false;
+        }
+    }
+
+    private void onTestCaseFinished(TestCaseFinished event) {
+        byte[] data = (byte[]) invoke(executionData, true);
+        if (data == null) {
+            return;
+        }
+        TestCase testCase = event.getTestCase();
+        try {
+            coverage.put(ScenarioOutcomeStore.key(testCase.getUri(), testCase.getLocation().getLine()),
+                CoverageStore.coveredClasses(data, FRAMEWORK_PREFIX));
+        } catch (IOException e) {
+            logger.warn("Unreadable JaCoCo execution data for {}: {}", testCase.getName(), e.getMessage());
+        }
+    }
+
+    private Object invoke(Method method, Object... args) {
+        try {
+            return method.invoke(agent, args);
+        } catch (ReflectiveOperationException e) {
+            logger.warn("JaCoCo agent call {} failed: {}", method.getName(), e.toString());
+            return null;
+        }
+    }
+
+    private void record() {
+        if (coverage.isEmpty()) {
+            return;
+        }
+        CoverageStore store = CoverageStore.configured();
+        try {
+            store.record(coverage);
+            logger.info("Impact coverage recorded | scenarios={} | file={}", coverage.size(), store.file());
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not record impact coverage: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.plugins;
+
+import com.vulcan.framework.config.ConfigManager;
+import com.vulcan.framework.shared.metrics.FrameworkMetrics;
+import com.vulcan.framework.shared.metrics.MetricsEndpoint;
+import com.vulcan.framework.shared.metrics.RunMetrics;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Result;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+import io.cucumber.plugin.event.TestStepFinished;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Cucumber plugin that feeds {@link FrameworkMetrics} with scenario/step results and exports them.
+ *
+ * <ul>
+ *   <li>Records every finished scenario and Gherkin step (hooks excluded) by status.</li>
+ *   <li>Serves the metrics on 127.0.0.1:&lt;metrics.port&gt;/metrics during the run (0 = off).</li>
+ *   <li>Writes build/reports/vulcan/&lt;suite&gt;/metrics.prom when the run finishes.</li>
+ * </ul>
+ *
+ * Driver, API, wait, cleanup and teardown metrics are recorded where those events happen.
+ * Disabled entirely with metrics.enabled=false. Registered through the cucumber.plugin list configured by Gradle.
+ */
+public class MetricsPlugin implements ConcurrentEventListener {
+
+    private static final Logger logger = LogManager.getLogger(MetricsPlugin.class);
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        if (!ConfigManager.getInstance().booleanValue("metrics.enabled", true)) {
+            return;
+        }
+        publisher.registerHandlerFor(TestRunStarted.class, event -> startEndpoint());
+        publisher.registerHandlerFor(TestCaseFinished.class,
+            event -> FrameworkMetrics.SCENARIOS.observe(seconds(event.getResult()), status(event.getResult())));
+        publisher.registerHandlerFor(TestStepFinished.class, event -> {
+            if (event.getTestStep() instanceof PickleStepTestStep) {
+                FrameworkMetrics.STEPS.observe(seconds(event.getResult()), status(event.getResult()));
+            }
+        });
+        publisher.registerHandlerFor(TestRunFinished.class, event -> export());
+    }
+
+    private void startEndpoint() {
+        int port = ConfigManager.getInstance().intValue("metrics.port", 0);
+        if (port > 0) {
+            MetricsEndpoint.start(port);
+        }
+    }
+
+    private void export() {
+        Path file = RunMetrics.reportsDir().resolve("metrics.prom");
+        try {
+            FrameworkMetrics.export(file);
+            logger.info("Framework metrics exported | file={}", file);
+        } catch (IOException e) {
+            logger.warn("Could not export framework metrics: {}", e.getMessage());
+        } finally {
+            MetricsEndpoint.stop();
+        }
+    }
+
+    private static double seconds(Result result) {
+        return result.getDuration().toNanos() / 1_000_000_000d;
+    }
+
+    private static String status(Result result) {
+        return result.getStatus().name().toLowerCase(Locale.ROOT);
+    }
+}
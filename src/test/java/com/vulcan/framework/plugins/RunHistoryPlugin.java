@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.plugins;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vulcan.framework.config.ConfigManager;
+import com.vulcan.framework.shared.history.RegressionDetector;
+import com.vulcan.framework.shared.history.RunHistoryStore;
+import com.vulcan.framework.shared.metrics.RunMetrics;
+import com.vulcan.framework.shared.metrics.SuiteAttachments;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestStepFinished;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Cucumber plugin that keeps the step durations of every run and reports gradual slowdowns.
+ *
+ * <ul>
+ *   <li>Collects the duration of every passed Gherkin step, keyed by feature, scenario and step text.</li>
+ *   <li>Appends them to the suite's {@link RunHistoryStore} when the run finishes
+ *       (history.dir, default .vulcan/history/&lt;suite&gt;; keep it between CI runs).</li>
+ *   <li>Compares the latest runs with the rolling baseline ({@link RegressionDetector}) and writes
+ *       build/reports/vulcan/&lt;suite&gt;/step-regressions.json, also published in Allure when a step regressed.</li>
+ * </ul>
+ *
+ * Reports only: a slowdown never fails the build. Disabled with history.enabled=false.
+ * Registered through the cucumber.plugin list configured by Gradle.
+ */
+public class RunHistoryPlugin implements ConcurrentEventListener {
+
+    private static final Logger logger = LogManager.getLogger(RunHistoryPlugin.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Map<String, ConcurrentLinkedQueue<Long>> durations = new ConcurrentHashMap<>();
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        if (!ConfigManager.getInstance().booleanValue("history.enabled", true)) {
+            return;
+        }
+        publisher.registerHandlerFor(TestStepFinished.class, this::onStepFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> ingestAndReport());
+    }
+
+    private void onStepFinished(TestStepFinished event) {
+        // Failed/skipped steps stop early and would only add noise to the baseline
+        if (!(event.getTestStep() instanceof PickleStepTestStep) || event.getResult().getStatus() != Status.PASSED) {
+            return;
+        }
+        PickleStepTestStep step = (PickleStepTestStep) event.getTestStep();
+        TestCase testCase = event.getTestCase();
+        String key = featureName(testCase) + " | " + testCase.getName() + " | " + step.getStep().getText();
+        durations.computeIfAbsent(key, k -> new ConcurrentLinkedQueue<>())
+            .add(event.getResult().getDuration().toNanos() / 1000);
+    }
+
+    private void ingestAndReport() {
+        if (durations.isEmpty()) {
+            return;
+        }
+        ConfigManager config = ConfigManager.getInstance();
+        int window = config.intValue("history.window", 20);
+        RegressionDetector detector = new RegressionDetector(
+            config.intValue("history.recentRuns", 3),
+            config.intValue("history.minBaselineRuns", 5),
+            Double.parseDouble(config.get("history.alpha", "0.01")),
+            Double.parseDouble(config.get("history.minSlowdown", "0.10")));
+
+        try {
+            RunHistoryStore store = new RunHistoryStore(historyDir());
+            Map<String, List<Long>> run = durations.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> new ArrayList<>(e.getValue())));
+            int runId = store.append(System.currentTimeMillis(), run);
+
+            List<RegressionDetector.Result> results = detector.evaluate(store.load(window));
+            List<RegressionDetector.Result> regressions = results.stream()
+                .filter(RegressionDetector.Result::regressed)
+                .collect(Collectors.toList());
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("generatedAt", Instant.now().toString());
+            report.put("runId", runId);
+            report.put("window", window);
+            report.put("evaluatedSteps", results.size());
+            report.put("regressions", regressions.size());
+            report.put("steps", results.stream().map(RegressionDetector.Result::asMap).collect(Collectors.toList()));
+
+            byte[] json = MAPPER.writerWithDefaultPrettyPrinter().writeValueAsBytes(report);
+            Path file = RunMetrics.reportsDir().resolve("step-regressions.json");
+            Files.createDirectories(file.getParent());
+            Files.write(file, json);
+            if (!regressions.isEmpty()) {
+                SuiteAttachments.attach("Step duration regressions", "application/json", ".json", json);
+            }
+
+            logger.info("Run history updated | run={} | steps={} | evaluated={} | regressions={} | file={}",
+                runId, run.size(), results.size(), regressions.size(), file);
+            for (RegressionDetector.Result regression : regressions) {
+                logger.warn("STEP SLOWDOWN | {} | {}% slower | p={}",
+                    regression.step(), Math.round(regression.slowdown() * 100), String.format("%.2g", regression.pValue()));
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not update run history: {}", e.getMessage());
+        }
+    }
+
+    /** history.dir, or .vulcan/history/&lt;suite&gt; (suite = name of the reports dir). */
+    private static Path historyDir() {
+        String configured = ConfigManager.getInstance().get("history.dir", "").trim();
+        if (!configured.isEmpty()) {
+            return Paths.get(configured);
+        }
+        return Paths.get(".vulcan", "history", RunMetrics.reportsDir().getFileName().toString());
+    }
+
+    private static String featureName(TestCase testCase) {
+        String uri = testCase.getUri().toString();
+        int features = uri.indexOf("features/");
+        return features >= 0 ? uri.substring(features + "features/".length()) : uri;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.plugins;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vulcan.framework.config.ConfigManager;
+import com.vulcan.framework.shared.history.ScenarioOutcomeStore;
+import com.vulcan.framework.shared.metrics.RunMetrics;
+import com.vulcan.framework.shared.metrics.SuiteAttachments;
+
+import io.cucumber.messages.types.Envelope;
+import io.cucumber.messages.types.Feature;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Cucumber plugin that records the outcome of every scenario and quarantines flaky ones.
+ *
+ * <ul>
+ *   <li>Passed and failed scenarios are appended to the {@link ScenarioOutcomeStore}
+ *       (quarantine.file, default .vulcan/history/scenario-outcomes.tsv; keep it between CI runs).
+ *       Skipped, pending and undefined scenarios say nothing about flakiness and are not recorded.</li>
+ *   <li>Scenarios flipping between pass and fail are quarantined: the runner treats them as tagged
+ *       {@code @quarantine}, so regular runs skip them and quarantineTest runs them separately.</li>
+ *   <li>Writes build/reports/vulcan/&lt;suite&gt;/flaky-scenarios.json, also published in Allure when the
+ *       quarantine changed.</li>
+ * </ul>
+ *
+ * The same outcomes drive failed-first ordering (-PfailedFirst). Registered through the
+ * cucumber.plugin list configured by Gradle. Disabled with quarantine.record=false.
+ */
+public class ScenarioOutcomePlugin implements ConcurrentEventListener {
+
+    private static final Logger logger = LogManager.getLogger(ScenarioOutcomePlugin.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Map<String, String> featureNames = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<ScenarioOutcomeStore.Outcome> outcomes = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        if (!ConfigManager.getInstance().booleanValue("quarantine.record", true)) {
+            return;
+        }
+        publisher.registerHandlerFor(Envelope.class, this::onEnvelope);
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onTestCaseFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> recordAndReport());
+    }
+
+    private void onEnvelope(Envelope envelope) {
+        envelope.getGherkinDocument().ifPresent(document -> {
+            String name = document.getFeature().map(Feature::getName).orElse("");
+            document.getUri().ifPresent(uri -> featureNames.put(uri, name));
+        });
+    }
+
+    private void onTestCaseFinished(TestCaseFinished event) {
+        Status status = event.getResult().getStatus();
+        if (status != Status.PASSED && status != Status.FAILED) {
+            return;
+        }
+        TestCase testCase = event.getTestCase();
+        outcomes.add(new ScenarioOutcomeStore.Outcome(
+            ScenarioOutcomeStore.key(testCase.getUri(), testCase.getLocation().getLine()),
+            featureNames.getOrDefault(testCase.getUri().toString(), ""),
+            testCase.getName(),
+            status == Status.PASSED));
+    }
+
+    private void recordAndReport() {
+        if (outcomes.isEmpty()) {
+            return;
+        }
+        try {
+            ScenarioOutcomeStore store = ScenarioOutcomeStore.configured();
+            ScenarioOutcomeStore.Changes changes = store.record(new ArrayList<>(outcomes));
+            List<ScenarioOutcomeStore.Entry> quarantine = store.load().values().stream()
+                .filter(ScenarioOutcomeStore.Entry::quarantined)
+                .collect(Collectors.toList());
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("generatedAt", Instant.now().toString());
+            report.put("recorded", outcomes.size());
+            report.put("newlyQuarantined", rows(changes.quarantined()));
+            report.put("released", rows(changes.released()));
+            report.put("quarantine", rows(quarantine));
+
+            byte[] json = MAPPER.writerWithDefaultPrettyPrinter().writeValueAsBytes(report);
+            Path file = RunMetrics.reportsDir().resolve("flaky-scenarios.json");
+            Files.createDirectories(file.getParent());
+            Files.write(file, json);
+            if (!changes.isEmpty()) {
+                SuiteAttachments.attach("Flaky scenarios", "application/json", ".json", json);
+            }
+
+            logger.info("Scenario outcomes recorded | scenarios={} | quarantined={} | file={}",
+                outcomes.size(), quarantine.size(), file);
+            for (ScenarioOutcomeStore.Entry entry : changes.quarantined()) {
+                logger.warn("FLAKY SCENARIO QUARANTINED | {} | {} | outcomes={}", entry.key(), entry.scenario(), entry.outcomes());
+            }
+            for (ScenarioOutcomeStore.Entry entry : changes.released()) {
+                logger.info("Scenario released from quarantine | {} | {}", entry.key(), entry.scenario());
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not record scenario outcomes: {}", e.getMessage());
+        }
+    }
+
+    private static List<Map<String, Object>> rows(List<ScenarioOutcomeStore.Entry> entries) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (ScenarioOutcomeStore.Entry entry : entries) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("scenario", entry.key());
+            row.put("feature", entry.feature());
+            row.put("name", entry.scenario());
+            row.put("outcomes", entry.outcomes());
+            rows.add(row);
+        }
+        return rows;
+    }
+}
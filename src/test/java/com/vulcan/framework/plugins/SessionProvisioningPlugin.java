@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.plugins;
+
+import com.vulcan.framework.core.BrowserContextPool;
+import com.vulcan.framework.core.SessionProvisioner;
+import com.vulcan.framework.hooks.ScenarioClassifier;
+
+import io.cucumber.messages.types.Envelope;
+import io.cucumber.messages.types.Pickle;
+import io.cucumber.messages.types.PickleTag;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.tagexpressions.Expression;
+import io.cucumber.tagexpressions.TagExpressionParser;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Cucumber plugin that drives {@link SessionProvisioner} for the suite.
+ *
+ * <ul>
+ *   <li>Counts the selected UI pickles while features are parsed (API pickles and pickles
+ *       excluded by {@code cucumber.filter.tags} are ignored). Line/name filters are not applied,
+ *       so the count is an upper bound; the pool is capped by ui.parallelism anyway.</li>
+ *   <li>Starts provisioning when the first scenario starts (all features are parsed by then).</li>
+ *   <li>Shuts the pool (and any browser context hosts) down when the run finishes.</li>
+ * </ul>
+ *
+ * Registered through the cucumber.plugin list configured by Gradle.
+ */
+public class SessionProvisioningPlugin implements ConcurrentEventListener {
+
+    private final AtomicInteger selectedUiPickles = new AtomicInteger();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final Expression tagFilter;
+
+    public SessionProvisioningPlugin() {
+        String tags = System.getProperty("cucumber.filter.tags");
+        this.tagFilter = (tags == null || tags.trim().isEmpty()) ? null : TagExpressionParser.parse(tags);
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(Envelope.class, this::onEnvelope);
+        publisher.registerHandlerFor(TestCaseStarted.class, event -> startOnce());
+        publisher.registerHandlerFor(TestRunFinished.class, event -> {
+            SessionProvisioner.shutdown();
+            BrowserContextPool.shutdown();
+        });
+    }
+
+    private void onEnvelope(Envelope envelope) {
+        envelope.getPickle().ifPresent(pickle -> {
+            if (isSelectedUiPickle(pickle)) {
+                selectedUiPickles.incrementAndGet();
+            }
+        });
+    }
+
+    private boolean isSelectedUiPickle(Pickle pickle) {
+        List<String> tags = pickle.getTags().stream()
+            .map(PickleTag::getName)
+            .collect(Collectors.toList());
+        if (tagFilter != null && !tagFilter.evaluate(tags)) {
+            return false;
+        }
+        // API scenarios never use a browser; @lite scenarios use the in-process driver
+        return !ScenarioClassifier.isApi(tags, pickle.getUri()) && !ScenarioClassifier.runsLite(tags);
+    }
+
+    private void startOnce() {
+        if (started.compareAndSet(false, true)) {
+            SessionProvisioner.start(selectedUiPickles.get());
+        }
+    }
+}
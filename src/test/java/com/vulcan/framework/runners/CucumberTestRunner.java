@@ -11,11 +11,14 @@
 
 package com.vulcan.framework.runners;
 
-import io.cucumber.junit.Cucumber;
 import io.cucumber.junit.CucumberOptions;
 import org.junit.runner.RunWith;
 
-@RunWith(Cucumber.class)
+/**
+ * Features and glue below are the defaults; Gradle narrows the features per suite and
+ * {@link IndexedCucumber} resolves them to the selected scenarios from the pickle index.
+ */
+@RunWith(IndexedCucumber.class)
 @CucumberOptions(
     features = "classpath:features",
     glue = {
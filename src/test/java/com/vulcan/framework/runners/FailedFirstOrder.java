@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.runners;
+
+import com.vulcan.framework.shared.history.ScenarioOutcomeStore;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.runner.Description;
+import org.junit.runner.manipulation.Sorter;
+import org.junit.runners.ParentRunner;
+
+/**
+ * Failed-first ordering (vulcan.failedFirst=true, Gradle -PfailedFirst): scenarios whose latest
+ * recorded run failed ({@link ScenarioOutcomeStore}) run before the others, and so do their features.
+ *
+ * Notes:
+ * - Only the order changes; the selection is the same as a regular run.
+ * - JUnit descriptions carry names only, so scenarios are matched by feature and scenario name
+ *   (example rows share the scenario name, so all rows of a failing outline move up).
+ * - The sort is stable: everything else keeps Cucumber's order.
+ */
+final class FailedFirstOrder {
+
+    private static final Logger logger = LogManager.getLogger(FailedFirstOrder.class);
+
+    private FailedFirstOrder() {
+        // Utility class: prevent instantiation
+    }
+
+    /** Sorts the runner's features and scenarios when failed-first ordering is enabled. */
+    static void apply(ParentRunner<?> runner) {
+        if (!Boolean.getBoolean("vulcan.failedFirst")) {
+            return;
+        }
+        Set<String> failed = new HashSet<>();
+        try {
+            for (ScenarioOutcomeStore.Entry entry : ScenarioOutcomeStore.configured().load().values()) {
+                if (entry.lastFailed()) {
+                    failed.add(entry.feature() + "\n" + entry.scenario());
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Scenario outcomes unreadable ({}); keeping the default order", e.getMessage());
+            return;
+        }
+        if (failed.isEmpty()) {
+            logger.info("Failed-first ordering: no failed scenario in the last runs");
+            return;
+        }
+        runner.sort(new Sorter(Comparator.comparingInt(description -> rank(description, failed))));
+        logger.info("Failed-first ordering: {} previously failed scenario(s) run first", failed.size());
+    }
+
+    /** @return 0 for a previously failed scenario (or a feature containing one), 1 otherwise */
+    private static int rank(Description description, Set<String> failed) {
+        if (description.isSuite()) {
+            return description.getChildren().stream().anyMatch(child -> rank(child, failed) == 0) ? 0 : 1;
+        }
+        String scenario = description.getMethodName();
+        if (scenario == null) {
+            return 1;
+        }
+        // Cucumber suffixes repeated names in a feature (" #2", ...)
+        int suffix = scenario.lastIndexOf(" #");
+        String feature = description.getClassName() + "\n";
+        return failed.contains(feature + scenario)
+            || (suffix > 0 && failed.contains(feature + scenario.substring(0, suffix))) ? 0 : 1;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.runners;
+
+import com.vulcan.framework.runners.index.ScenarioSelection;
+
+import io.cucumber.junit.Cucumber;
+
+import org.junit.runner.Description;
+import org.junit.runner.Runner;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.Filterable;
+import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.model.InitializationError;
+
+/**
+ * JUnit runner that resolves the scenarios to run from the build-time pickle index
+ * ({@link ScenarioSelection}) and then hands over to Cucumber's own runner.
+ *
+ * Cucumber reads its options when its runner is created, so the selection has to happen
+ * before that; everything else (glue, plugins, execution) is plain Cucumber.
+ * With -PfailedFirst the scenarios that failed last time run first ({@link FailedFirstOrder}).
+ */
+public final class IndexedCucumber extends Runner implements Filterable {
+
+    private final Cucumber delegate;
+
+    public IndexedCucumber(Class<?> testClass) throws InitializationError {
+        ScenarioSelection.applyFromIndex();
+        this.delegate = new Cucumber(testClass);
+        FailedFirstOrder.apply(delegate);
+    }
+
+    @Override
+    public Description getDescription() {
+        return delegate.getDescription();
+    }
+
+    @Override
+    public void run(RunNotifier notifier) {
+        delegate.run(notifier);
+    }
+
+    @Override
+    public void filter(Filter filter) throws NoTestsRemainException {
+        delegate.filter(filter);
+    }
+}
@@ -0,0 +1,385 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.runners.distributed;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.vulcan.framework.config.ConfigManager;
+import com.vulcan.framework.runners.index.PickleIndex;
+import com.vulcan.framework.runners.index.ScenarioSelection;
+import com.vulcan.framework.shared.metrics.RunMetrics;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Coordinator of a distributed run: serves the selected scenarios to {@link Worker} JVMs over HTTP
+ * and assembles their results.
+ *
+ * Protocol (plain HTTP, one request per call, each carrying "Authorization: Bearer &lt;distributed.token&gt;";
+ * other requests get 401):
+ * <ul>
+ *   <li>POST /lease?worker=ID: 200 with "batch=N" and one "path:line" per line; 202 when nothing is
+ *       pending right now (ask again); 204 when the run is complete (the worker exits).</li>
+ *   <li>POST /allure?batch=N: zip of the Allure result files of the batch, unpacked into
+ *       allure.results.directory.</li>
+ *   <li>POST /results?batch=N: Cucumber JSON of the batch; closes the lease (see {@link WorkQueue}).</li>
+ * </ul>
+ *
+ * The scenarios come from the pickle index (vulcan.pickleIndex) with the usual selection:
+ * cucumber.features roots, cucumber.filter.tags, cucumber.filter.name, quarantine.
+ * With distributed.workers &gt; 0 the coordinator also starts that many local worker JVMs;
+ * workers on other machines can join at any time (distributed.bind / distributed.port).
+ * A non-loopback distributed.bind requires distributed.token, shared with the remote workers; on loopback
+ * a random token is generated for the local workers when none is set.
+ *
+ * Output: the merged Cucumber JSON (vulcan.cucumberJson) and one Allure result set. Exits with 1
+ * when a scenario failed or could not be run.
+ */
+public final class Coordinator {
+
+    private static final Logger logger = LogManager.getLogger(Coordinator.class);
+
+    /** System properties passed on to local workers (framework configuration, logging, index). */
+    private static final List<String> FORWARDED_PREFIXES = List.of(
+        "env", "ui.", "api.", "teardown.", "metrics.", "history.", "quarantine.", "distributed.",
+        "vulcan.pickleIndex", "vulcan.log.dir", "log4j", "Log4j"
+    );
+
+    /** Worker credential: never forwarded as a -D argument (visible in process listings), see startLocalWorkers. */
+    static final String TOKEN_KEY = "distributed.token";
+    static final String TOKEN_ENV = "VULCAN_DISTRIBUTED_TOKEN";
+
+    private final WorkQueue queue;
+    private final CucumberJsonMerger merger = new CucumberJsonMerger();
+    private final Path allureDir;
+    private final byte[] expectedAuthorization;
+
+    private Coordinator(WorkQueue queue, Path allureDir, String token) {
+        this.queue = queue;
+        this.allureDir = allureDir;
+        this.expectedAuthorization = ("Bearer " + token).getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.exit(run());
+    }
+
+    private static int run() throws Exception {
+        ConfigManager config = ConfigManager.getInstance();
+        int localWorkers = Math.max(0, config.intValue("distributed.workers", 2));
+
+        List<String> scenarios = selectScenarios();
+        if (scenarios.isEmpty()) {
+            logger.warn("Distributed run | no scenarios selected");
+            return 0;
+        }
+
+        WorkQueue queue = new WorkQueue(
+            scenarios,
+            localWorkers,
+            config.intValue("distributed.maxBatch", 8),
+            config.intValue("distributed.maxAttempts", 2),
+            config.duration("distributed.leaseTimeout", ChronoUnit.SECONDS, Duration.ofMinutes(30)).toMillis()
+        );
+        String bind = config.get("distributed.bind", "127.0.0.1").trim();
+        String token = token(config, bind);
+        Path allureDir = Paths.get(System.getProperty("allure.results.directory", "build/allure-results/distributed"));
+        Files.createDirectories(allureDir);
+        Coordinator coordinator = new Coordinator(queue, allureDir, token);
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(bind, config.intValue("distributed.port", 0)), 0);
+        server.createContext("/lease", exchange -> coordinator.handle(exchange, coordinator::lease));
+        server.createContext("/allure", exchange -> coordinator.handle(exchange, coordinator::allure));
+        server.createContext("/results", exchange -> coordinator.handle(exchange, coordinator::results));
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        int port = server.getAddress().getPort();
+        logger.info("Distributed run | {} scenario(s) | coordinator listening on {}:{}",
+            scenarios.size(), server.getAddress().getHostString(), port);
+
+        Map<String, Process> workers = startLocalWorkers(localWorkers, "http://127.0.0.1:" + port, token);
+        try {
+            coordinator.awaitCompletion(workers);
+        } finally {
+            stopLocalWorkers(workers);
+            server.stop(0);
+        }
+        return coordinator.report();
+    }
+
+    /**
+     * @return distributed.token, or a random one when the coordinator only listens on loopback
+     * @throws IllegalStateException when remote workers could connect and no token is configured
+     */
+    private static String token(ConfigManager config, String bind) throws IOException {
+        String token = config.get(TOKEN_KEY, "").trim();
+        if (!token.isEmpty()) {
+            return token;
+        }
+        if (!InetAddress.getByName(bind).isLoopbackAddress()) {
+            throw new IllegalStateException("distributed.bind=" + bind + " accepts remote connections: set "
+                + TOKEN_KEY + " (or " + TOKEN_ENV + ") to a shared secret, and the same value on every worker");
+        }
+        byte[] random = new byte[32];
+        new SecureRandom().nextBytes(random);
+        return HexFormat.of().formatHex(random);
+    }
+
+    private static List<String> selectScenarios() throws IOException {
+        String indexPath = System.getProperty("vulcan.pickleIndex");
+        if (indexPath == null || !Files.exists(Paths.get(indexPath))) {
+            throw new IllegalStateException("Distributed runs need the pickle index (vulcan.pickleIndex): " + indexPath);
+        }
+        List<String> roots = new ArrayList<>();
+        for (String root : System.getProperty("cucumber.features", "src/test/resources/features").split(",")) {
+            String normalized = root.trim().replace('\\', '/');
+            roots.add(normalized.endsWith("/") ? normalized.substring(0, normalized.length() - 1) : normalized);
+        }
+        return ScenarioSelection.select(PickleIndex.read(Paths.get(indexPath)), roots);
+    }
+
+    // ---------------------------------------------------------------------
+    // HTTP handlers
+    // ---------------------------------------------------------------------
+
+    @FunctionalInterface
+    private interface Handler {
+        /** @return status and body of the response (body may be empty) */
+        Response handle(Map<String, String> query, byte[] body) throws IOException;
+    }
+
+    private static final class Response {
+        private final int status;
+        private final byte[] body;
+
+        Response(int status, String body) {
+            this.status = status;
+            this.body = body.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private void handle(HttpExchange exchange, Handler handler) throws IOException {
+        try {
+            String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+            if (authorization == null
+                    || !MessageDigest.isEqual(expectedAuthorization, authorization.getBytes(StandardCharsets.UTF_8))) {
+                logger.warn("Distributed run | rejected {} from {}: missing or wrong distributed.token",
+                    exchange.getRequestURI().getPath(), exchange.getRemoteAddress());
+                exchange.sendResponseHeaders(401, -1);
+                return;
+            }
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = in.readAllBytes();
+            }
+            Response response = handler.handle(query(exchange.getRequestURI()), body);
+            if (response.body.length == 0) {
+                exchange.sendResponseHeaders(response.status, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+            exchange.sendResponseHeaders(response.status, response.body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response.body);
+            }
+        } catch (RuntimeException | IOException e) {
+            logger.warn("Distributed run | {} failed: {}", exchange.getRequestURI(), e.getMessage());
+            exchange.sendResponseHeaders(500, -1);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Response lease(Map<String, String> query, byte[] body) {
+        String worker = query.getOrDefault("worker", "unknown");
+        WorkQueue.Batch batch = queue.lease(worker, System.currentTimeMillis());
+        if (batch == null) {
+            return queue.isDone() ? new Response(204, "") : new Response(202, "");
+        }
+        logger.info("Distributed run | batch {} -> {} | {} scenario(s)", batch.id(), worker, batch.scenarios().size());
+        return new Response(200, "batch=" + batch.id() + "\n" + String.join("\n", batch.scenarios()));
+    }
+
+    private Response allure(Map<String, String> query, byte[] body) throws IOException {
+        int files = 0;
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(body))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                String name = entry.getName();
+                // Allure writes flat <uuid>-result.json / -container.json / -attachment.* files
+                if (entry.isDirectory() || name.contains("/") || name.contains("\\") || name.startsWith(".")) {
+                    continue;
+                }
+                Files.copy(zip, allureDir.resolve(name), StandardCopyOption.REPLACE_EXISTING);
+                files++;
+            }
+        }
+        return new Response(200, "files=" + files);
+    }
+
+    private Response results(Map<String, String> query, byte[] body) throws IOException {
+        long batchId = Long.parseLong(query.getOrDefault("batch", "0"));
+        List<String> leased = queue.scenariosOf(batchId);
+        Map<String, CucumberJsonMerger.ScenarioReport> reports;
+        try {
+            reports = CucumberJsonMerger.split(body, leased);
+        } catch (IOException e) {
+            logger.warn("Distributed run | batch {}: unreadable Cucumber JSON ({})", batchId, e.getMessage());
+            reports = new LinkedHashMap<>();
+        }
+        Set<String> accepted = queue.complete(batchId, reports.keySet());
+        merger.add(reports, accepted);
+        logger.info("Distributed run | batch {} done | {} of {} scenario(s) finished",
+            batchId, queue.finishedCount(), queue.total());
+        return new Response(200, "accepted=" + accepted.size());
+    }
+
+    private static Map<String, String> query(URI uri) {
+        Map<String, String> params = new LinkedHashMap<>();
+        String raw = uri.getRawQuery();
+        if (raw == null) {
+            return params;
+        }
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(pair.substring(0, eq),
+                    URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    // ---------------------------------------------------------------------
+    // Run lifecycle
+    // ---------------------------------------------------------------------
+
+    private void awaitCompletion(Map<String, Process> workers) throws InterruptedException {
+        while (!queue.isDone()) {
+            Thread.sleep(500);
+            for (WorkQueue.Batch batch : queue.expire(System.currentTimeMillis())) {
+                logger.warn("Distributed run | batch {} of {} expired; scenarios re-queued", batch.id(), batch.worker());
+            }
+            for (Map.Entry<String, Process> worker : workers.entrySet()) {
+                if (!worker.getValue().isAlive()) {
+                    for (WorkQueue.Batch batch : queue.abandon(worker.getKey())) {
+                        logger.warn("Distributed run | worker {} exited during batch {}; scenarios re-queued",
+                            worker.getKey(), batch.id());
+                    }
+                }
+            }
+            if (!workers.isEmpty() && workers.values().stream().noneMatch(Process::isAlive) && !queue.isDone()) {
+                logger.error("Distributed run | every local worker exited before the run completed");
+                queue.abortPending();
+                return;
+            }
+        }
+    }
+
+    private int report() throws IOException {
+        Path json = Paths.get(System.getProperty("vulcan.cucumberJson", "build/reports/cucumber/distributed/cucumber.json"));
+        merger.write(json);
+
+        List<String> failed = merger.failed();
+        List<String> lost = queue.lost();
+        logger.info("Distributed run | {} scenario(s) | failed={} | not run={} | report={} | allure={}",
+            queue.total(), failed.size(), lost.size(), json, allureDir);
+        failed.forEach(scenario -> logger.error("Distributed run | failed: {}", scenario));
+        lost.forEach(scenario -> logger.error("Distributed run | not run: {}", scenario));
+        return failed.isEmpty() && lost.isEmpty() ? 0 : 1;
+    }
+
+    // ---------------------------------------------------------------------
+    // Local workers
+    // ---------------------------------------------------------------------
+
+    private static Map<String, Process> startLocalWorkers(int count, String coordinatorUrl, String token) throws IOException {
+        Map<String, Process> workers = new LinkedHashMap<>();
+        if (count == 0) {
+            logger.info("Distributed run | no local workers; waiting for remote workers");
+            return workers;
+        }
+        String java = ProcessHandle.current().info().command()
+            .orElse(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+
+        // Classpath in an argument file: long classpaths exceed the Windows command-line limit
+        Path workersDir = RunMetrics.reportsDir().resolve("workers");
+        Files.createDirectories(workersDir);
+        Path classpathFile = workersDir.resolve("classpath.args");
+        Files.writeString(classpathFile,
+            "-cp \"" + System.getProperty("java.class.path").replace("\\", "\\\\") + "\"");
+
+        for (int i = 1; i <= count; i++) {
+            String id = "local-" + i;
+            Path workerDir = workersDir.resolve(id).toAbsolutePath();
+            List<String> command = new ArrayList<>();
+            command.add(java);
+            command.add("@" + classpathFile.toAbsolutePath());
+            System.getProperties().stringPropertyNames().stream()
+                .filter(key -> FORWARDED_PREFIXES.stream().anyMatch(key::startsWith) && !TOKEN_KEY.equals(key))
+                .sorted()
+                .forEach(key -> command.add("-D" + key + "=" + System.getProperty(key)));
+            command.add("-Ddistributed.coordinator=" + coordinatorUrl);
+            command.add("-Ddistributed.workerId=" + id);
+            command.add("-Dvulcan.reports.dir=" + workerDir);
+            command.add("-Dallure.results.directory=" + workerDir.resolve("allure-results"));
+            command.add(Worker.class.getName());
+
+            ProcessBuilder builder = new ProcessBuilder(command).inheritIO();
+            builder.environment().put(TOKEN_ENV, token);
+            workers.put(id, builder.start());
+        }
+        logger.info("Distributed run | started {} local worker JVM(s)", count);
+        return workers;
+    }
+
+    private static void stopLocalWorkers(Map<String, Process> workers) throws InterruptedException {
+        for (Process process : workers.values()) {
+            // Workers exit on their own once /lease answers 204
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroy();
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.runners.distributed;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Assembles the Cucumber JSON reports of every batch into one report, as if a single JVM ran the suite.
+ *
+ * - Each batch report is split per scenario: the scenario element plus the background element
+ *   Cucumber writes right before it.
+ * - Features are ordered by URI and scenarios by line, whatever worker ran them and in which order.
+ * - A scenario is failed when any hook or step result is not passed/skipped (pending and undefined
+ *   steps fail, as in a strict Cucumber run).
+ */
+final class CucumberJsonMerger {
+
+    /** The report elements of one scenario of a batch. */
+    static final class ScenarioReport {
+        private final ObjectNode feature;
+        private final String uri;
+        private final int line;
+        private final List<JsonNode> elements;
+        private final boolean failed;
+
+        ScenarioReport(ObjectNode feature, String uri, int line, List<JsonNode> elements, boolean failed) {
+            this.feature = feature;
+            this.uri = uri;
+            this.line = line;
+            this.elements = elements;
+            this.failed = failed;
+        }
+    }
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Map<String, ObjectNode> features = new TreeMap<>();
+    private final Map<String, Map<Integer, List<JsonNode>>> scenarios = new TreeMap<>();
+    private final List<String> failed = new ArrayList<>();
+
+    /**
+     * Splits a batch report per scenario.
+     *
+     * @param json   the Cucumber JSON written by the worker for the batch
+     * @param leased the scenarios of the batch ("path:line", paths relative to the project)
+     * @return reports keyed by the leased scenario they belong to; scenarios not in the lease are dropped
+     */
+    static Map<String, ScenarioReport> split(byte[] json, Collection<String> leased) throws IOException {
+        Map<String, ScenarioReport> reports = new LinkedHashMap<>();
+        JsonNode root = MAPPER.readTree(json);
+        if (root == null || !root.isArray()) {
+            return reports;
+        }
+        for (JsonNode featureNode : root) {
+            ObjectNode feature = ((ObjectNode) featureNode).deepCopy();
+            JsonNode elements = feature.remove("elements");
+            String uri = feature.path("uri").asText();
+            String path = uri.startsWith("file:") ? uri.substring("file:".length()) : uri;
+
+            List<JsonNode> backgrounds = new ArrayList<>();
+            for (JsonNode element : elements == null ? MAPPER.createArrayNode() : elements) {
+                if ("background".equals(element.path("type").asText())) {
+                    backgrounds.add(element);
+                    continue;
+                }
+                int line = element.path("line").asInt();
+                String scenario = match(path + ":" + line, leased);
+                if (scenario != null) {
+                    List<JsonNode> group = new ArrayList<>(backgrounds);
+                    group.add(element);
+                    reports.put(scenario, new ScenarioReport(feature, uri, line, group, isFailed(group)));
+                }
+                backgrounds.clear();
+            }
+        }
+        return reports;
+    }
+
+    /** Worker paths may be absolute or relative to another checkout: match on the project-relative suffix. */
+    private static String match(String reported, Collection<String> leased) {
+        for (String scenario : leased) {
+            if (reported.equals(scenario) || reported.endsWith("/" + scenario)) {
+                return scenario;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isFailed(List<JsonNode> elements) {
+        for (JsonNode element : elements) {
+            for (String section : new String[] {"before", "steps", "after"}) {
+                for (JsonNode step : element.path(section)) {
+                    String status = step.path("result").path("status").asText("passed");
+                    if (!"passed".equals(status) && !"skipped".equals(status)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /** Adds the accepted scenarios of a batch to the merged report. */
+    synchronized void add(Map<String, ScenarioReport> reports, Set<String> accepted) {
+        for (String scenario : accepted) {
+            ScenarioReport report = reports.get(scenario);
+            features.putIfAbsent(report.uri, report.feature);
+            scenarios.computeIfAbsent(report.uri, uri -> new TreeMap<>()).put(report.line, report.elements);
+            if (report.failed) {
+                failed.add(scenario);
+            }
+        }
+    }
+
+    /** @return the failed scenarios ("path:line") added so far */
+    synchronized List<String> failed() {
+        return new ArrayList<>(failed);
+    }
+
+    /** Writes the merged report (a regular Cucumber JSON array of features). */
+    synchronized void write(Path file) throws IOException {
+        ArrayNode merged = MAPPER.createArrayNode();
+        features.forEach((uri, header) -> {
+            ObjectNode feature = header.deepCopy();
+            ArrayNode elements = feature.putArray("elements");
+            scenarios.get(uri).values().forEach(elements::addAll);
+            merged.add(feature);
+        });
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), merged);
+    }
+}
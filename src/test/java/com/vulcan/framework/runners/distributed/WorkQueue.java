@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.runners.distributed;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Scenario queue served by the {@link Coordinator}: workers lease batches of "path:line" entries.
+ *
+ * Notes:
+ * - Batches shrink as the queue drains (remaining / (2 x workers), capped by maxBatch), so a slow
+ *   worker never holds the last scenarios of the run while the others are idle.
+ * - A leased scenario missing from the batch results, or held past the lease timeout (worker gone),
+ *   goes back to the queue until maxAttempts is reached; then it is recorded as lost.
+ * - Late results for a scenario that was already re-queued are still accepted; results for a
+ *   scenario that already finished are ignored, so each scenario is reported exactly once.
+ *
+ * All methods are synchronized: the HTTP handlers and the coordinator loop share one instance.
+ */
+final class WorkQueue {
+
+    /** One lease handed out to a worker. */
+    static final class Batch {
+        private final long id;
+        private final String worker;
+        private final List<String> scenarios;
+        private final long deadlineMillis;
+
+        Batch(long id, String worker, List<String> scenarios, long deadlineMillis) {
+            this.id = id;
+            this.worker = worker;
+            this.scenarios = scenarios;
+            this.deadlineMillis = deadlineMillis;
+        }
+
+        long id() {
+            return id;
+        }
+
+        String worker() {
+            return worker;
+        }
+
+        List<String> scenarios() {
+            return scenarios;
+        }
+    }
+
+    private final Deque<String> pending;
+    private final int total;
+    private final int maxBatch;
+    private final int maxAttempts;
+    private final long leaseTimeoutMillis;
+
+    private final Map<Long, Batch> leases = new HashMap<>();
+    private final Map<Long, List<String>> issued = new HashMap<>();
+    private final Map<String, Integer> attempts = new HashMap<>();
+    private final Set<String> finished = new HashSet<>();
+    private final Set<String> lost = new LinkedHashSet<>();
+    private final Set<String> workers = new HashSet<>();
+    private final int expectedWorkers;
+    private long nextBatchId = 1;
+
+    WorkQueue(List<String> scenarios, int expectedWorkers, int maxBatch, int maxAttempts, long leaseTimeoutMillis) {
+        this.pending = new ArrayDeque<>(new LinkedHashSet<>(scenarios));
+        this.total = pending.size();
+        this.expectedWorkers = Math.max(1, expectedWorkers);
+        this.maxBatch = Math.max(1, maxBatch);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.leaseTimeoutMillis = leaseTimeoutMillis;
+    }
+
+    /** @return the next batch for {@code worker}, or null when nothing is pending right now */
+    synchronized Batch lease(String worker, long nowMillis) {
+        workers.add(worker);
+        if (pending.isEmpty()) {
+            return null;
+        }
+        int share = Math.max(expectedWorkers, workers.size()) * 2;
+        int size = Math.min(maxBatch, Math.max(1, (pending.size() + share - 1) / share));
+
+        List<String> scenarios = new ArrayList<>(size);
+        while (scenarios.size() < size && !pending.isEmpty()) {
+            String scenario = pending.poll();
+            attempts.merge(scenario, 1, Integer::sum);
+            scenarios.add(scenario);
+        }
+        Batch batch = new Batch(nextBatchId++, worker, scenarios, nowMillis + leaseTimeoutMillis);
+        leases.put(batch.id(), batch);
+        issued.put(batch.id(), scenarios);
+        return batch;
+    }
+
+    /**
+     * Records the scenarios reported for a batch.
+     *
+     * @param reported scenarios present in the batch results ("path:line", as leased)
+     * @return the reported scenarios accepted now (not finished by an earlier batch)
+     */
+    synchronized Set<String> complete(long batchId, Collection<String> reported) {
+        Set<String> accepted = new LinkedHashSet<>();
+        for (String scenario : reported) {
+            if (finished.add(scenario)) {
+                pending.remove(scenario);
+                lost.remove(scenario);
+                accepted.add(scenario);
+            }
+        }
+        Batch batch = leases.remove(batchId);
+        if (batch != null) {
+            for (String scenario : batch.scenarios()) {
+                if (!finished.contains(scenario)) {
+                    retryOrLose(scenario);
+                }
+            }
+        }
+        return accepted;
+    }
+
+    /** Re-queues the scenarios of every lease past its deadline. @return the expired batches */
+    synchronized List<Batch> expire(long nowMillis) {
+        List<Batch> expired = new ArrayList<>();
+        Iterator<Batch> it = leases.values().iterator();
+        while (it.hasNext()) {
+            Batch batch = it.next();
+            if (batch.deadlineMillis <= nowMillis) {
+                it.remove();
+                expired.add(batch);
+                batch.scenarios().stream().filter(s -> !finished.contains(s)).forEach(this::retryOrLose);
+            }
+        }
+        return expired;
+    }
+
+    /** Returns every lease of a worker that is known to be gone (e.g. its process exited). */
+    synchronized List<Batch> abandon(String worker) {
+        List<Batch> abandoned = new ArrayList<>();
+        Iterator<Batch> it = leases.values().iterator();
+        while (it.hasNext()) {
+            Batch batch = it.next();
+            if (batch.worker().equals(worker)) {
+                it.remove();
+                abandoned.add(batch);
+                batch.scenarios().stream().filter(s -> !finished.contains(s)).forEach(this::retryOrLose);
+            }
+        }
+        return abandoned;
+    }
+
+    /** @return the scenarios handed out with a batch (also after its lease expired), empty if unknown */
+    synchronized List<String> scenariosOf(long batchId) {
+        return issued.getOrDefault(batchId, List.of());
+    }
+
+    /** Gives up on everything still pending or leased: those scenarios are recorded as lost. */
+    synchronized void abortPending() {
+        leases.values().forEach(batch -> batch.scenarios().stream().filter(s -> !finished.contains(s)).forEach(lost::add));
+        leases.clear();
+        lost.addAll(pending);
+        pending.clear();
+    }
+
+    private void retryOrLose(String scenario) {
+        if (attempts.getOrDefault(scenario, 0) < maxAttempts) {
+            pending.addFirst(scenario);
+        } else {
+            lost.add(scenario);
+        }
+    }
+
+    /** @return true when every scenario either finished or was lost, and no lease is outstanding */
+    synchronized boolean isDone() {
+        return pending.isEmpty() && leases.isEmpty();
+    }
+
+    synchronized int total() {
+        return total;
+    }
+
+    synchronized int finishedCount() {
+        return finished.size();
+    }
+
+    synchronized List<String> lost() {
+        return new ArrayList<>(lost);
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.runners.distributed;
+
+import com.vulcan.framework.config.ConfigManager;
+import com.vulcan.framework.runners.CucumberTestRunner;
+import com.vulcan.framework.shared.metrics.RunMetrics;
+import com.vulcan.framework.shared.metrics.SuiteAttachments;
+
+import io.cucumber.core.cli.Main;
+import io.cucumber.junit.CucumberOptions;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Worker of a distributed run: pulls scenario batches from the {@link Coordinator} until the run is
+ * complete, runs each batch with Cucumber and streams the results back.
+ *
+ * Notes:
+ * - Batches run in this JVM with the glue of {@link CucumberTestRunner}, so Hooks, ScenarioContext,
+ *   session provisioning and the rest of the framework behave as in a regular run.
+ * - Cucumber JSON of each batch goes to &lt;reports&gt;/batches; Allure files are sent after every batch
+ *   and removed locally, the coordinator keeps the merged set.
+ * - Suite-level plugins run per worker (metrics.prom and action timings under this worker's
+ *   vulcan.reports.dir). RunHistoryPlugin is not used: a batch is not a run.
+ * - distributed.threads runs the scenarios of a batch in parallel (Cucumber --threads).
+ *
+ * Started by the coordinator for local workers, or on other machines with distributed.coordinator and
+ * distributed.token set (./gradlew distributedWorker -Pdistributed.coordinator=http://host:port, token in
+ * VULCAN_DISTRIBUTED_TOKEN).
+ */
+public final class Worker {
+
+    private static final Logger logger = LogManager.getLogger(Worker.class);
+
+    private static final List<String> PLUGINS = List.of(
+        "io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm",
+        "com.vulcan.framework.plugins.SessionProvisioningPlugin",
+        "com.vulcan.framework.plugins.ActionTimingsPlugin",
+        "com.vulcan.framework.plugins.MetricsPlugin",
+        "com.vulcan.framework.plugins.ScenarioOutcomePlugin"
+    );
+    private static final int CONNECT_ATTEMPTS = 5;
+
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+    private final URI coordinator;
+    private final String authorization;
+    private final String id;
+    private final int threads;
+    private final Path batchesDir;
+    private final Path allureDir;
+
+    private Worker(URI coordinator, String token, String id, int threads, Path reportsDir, Path allureDir) {
+        this.coordinator = coordinator;
+        this.authorization = "Bearer " + token;
+        this.id = id;
+        this.threads = threads;
+        this.batchesDir = reportsDir.resolve("batches");
+        this.allureDir = allureDir;
+    }
+
+    public static void main(String[] args) throws Exception {
+        ConfigManager config = ConfigManager.getInstance();
+        String url = config.get("distributed.coordinator", "").trim();
+        if (url.isEmpty()) {
+            throw new IllegalStateException("distributed.coordinator is not set (e.g. http://ci-agent-1:7070)");
+        }
+        String token = config.get(Coordinator.TOKEN_KEY, "").trim();
+        if (token.isEmpty()) {
+            throw new IllegalStateException(Coordinator.TOKEN_KEY + " is not set (the coordinator's token, or "
+                + Coordinator.TOKEN_ENV + ")");
+        }
+        String id = config.get("distributed.workerId", "").trim();
+        if (id.isEmpty()) {
+            id = InetAddress.getLocalHost().getHostName() + "-" + ProcessHandle.current().pid();
+        }
+
+        // The Allure adapter reads its results directory once, when the first run starts
+        Path reportsDir = RunMetrics.reportsDir();
+        if (System.getProperty("allure.results.directory") == null) {
+            System.setProperty("allure.results.directory", reportsDir.resolve("allure-results").toString());
+        }
+        Path allureDir = Paths.get(System.getProperty("allure.results.directory"));
+        System.setProperty("cucumber.publish.quiet", "true");
+        // The coordinator already applied the filters (including the derived @quarantine tag)
+        System.clearProperty("cucumber.filter.tags");
+        System.clearProperty("cucumber.filter.name");
+
+        Worker worker = new Worker(URI.create(url.endsWith("/") ? url : url + "/"), token, id,
+            Math.max(1, config.intValue("distributed.threads", 1)), reportsDir, allureDir);
+        worker.run();
+        // Driver services and pools may leave non-daemon threads behind
+        System.exit(0);
+    }
+
+    private void run() throws IOException, InterruptedException {
+        Files.createDirectories(batchesDir);
+        Files.createDirectories(allureDir);
+        logger.info("Worker {} | coordinator={}", id, coordinator);
+
+        int batches = 0;
+        while (true) {
+            HttpResponse<String> lease = post("lease?worker=" + encode(id), new byte[0]);
+            if (lease == null || lease.statusCode() == 204) {
+                break;
+            }
+            if (lease.statusCode() == 202) {
+                Thread.sleep(1000);
+                continue;
+            }
+            if (lease.statusCode() == 401) {
+                throw new IllegalStateException("Rejected by the coordinator: " + Coordinator.TOKEN_KEY + " does not match");
+            }
+            if (lease.statusCode() != 200) {
+                throw new IllegalStateException("Unexpected /lease response: HTTP " + lease.statusCode());
+            }
+            List<String> lines = new ArrayList<>(Arrays.asList(lease.body().split("\n")));
+            String batch = lines.remove(0).substring("batch=".length());
+            runBatch(batch, lines);
+            batches++;
+        }
+        logger.info("Worker {} | done | batches={}", id, batches);
+    }
+
+    private void runBatch(String batch, List<String> scenarios) throws IOException, InterruptedException {
+        Path json = batchesDir.resolve("batch-" + batch + ".json");
+        Files.deleteIfExists(json);
+
+        List<String> argv = new ArrayList<>();
+        CucumberOptions options = CucumberTestRunner.class.getAnnotation(CucumberOptions.class);
+        for (String glue : options.glue()) {
+            argv.add("--glue");
+            argv.add(glue);
+        }
+        for (String plugin : PLUGINS) {
+            argv.add("--plugin");
+            argv.add(plugin);
+        }
+        argv.add("--plugin");
+        argv.add("json:" + json.toAbsolutePath());
+        argv.add("--threads");
+        argv.add(String.valueOf(threads));
+        if (options.monochrome()) {
+            argv.add("--monochrome");
+        }
+        argv.addAll(scenarios);
+
+        logger.info("Worker {} | batch {} | {} scenario(s)", id, batch, scenarios.size());
+        // Suite reports of this batch are attached to this batch's scenarios only
+        SuiteAttachments.startRun();
+        try {
+            Main.run(argv.toArray(new String[0]), Thread.currentThread().getContextClassLoader());
+        } catch (RuntimeException e) {
+            // Reported scenarios are kept; the coordinator re-queues the missing ones
+            logger.error("Worker {} | batch {} aborted: {}", id, batch, e.getMessage(), e);
+        }
+
+        post("allure?batch=" + batch, zipAllureResults());
+        byte[] results = Files.exists(json) ? Files.readAllBytes(json) : "[]".getBytes(StandardCharsets.UTF_8);
+        post("results?batch=" + batch, results);
+    }
+
+    /** Zips the Allure files written since the last batch, then removes them locally. */
+    private byte[] zipAllureResults() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> dir = Files.newDirectoryStream(allureDir)) {
+            for (Path file : dir) {
+                if (Files.isRegularFile(file)) {
+                    files.add(file);
+                }
+            }
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            for (Path file : files) {
+                zip.putNextEntry(new ZipEntry(file.getFileName().toString()));
+                Files.copy(file, zip);
+                zip.closeEntry();
+            }
+        }
+        for (Path file : files) {
+            Files.delete(file);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * POSTs to the coordinator, retrying connection failures.
+     *
+     * @return the response, or null when the coordinator is gone (the run is over for this worker)
+     */
+    private HttpResponse<String> post(String path, byte[] body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(coordinator.resolve(path))
+            .timeout(Duration.ofMinutes(2))
+            .header("Authorization", authorization)
+            .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+            .build();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return http.send(request, HttpResponse.BodyHandlers.ofString());
+            } catch (ConnectException e) {
+                if (attempt == CONNECT_ATTEMPTS) {
+                    logger.warn("Worker {} | coordinator unreachable ({}); stopping", id, coordinator);
+                    return null;
+                }
+                Thread.sleep(1000L * attempt);
+            }
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
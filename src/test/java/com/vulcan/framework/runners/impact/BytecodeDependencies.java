@@ -0,0 +1,419 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.runners.impact;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Static dependency graph of the compiled framework classes, read straight from the class files.
+ *
+ * Two levels of precision:
+ * - Method level, for step definitions: the classes used by the step method, by the helpers of its own
+ *   class it calls (private accessors, lambdas) and by the class constructors / static initializer.
+ * - Class level, beyond that: every class referenced anywhere in a class file (constant pool and
+ *   descriptors), followed transitively.
+ *
+ * Only classes under the scanned package prefix are kept; JDK and library classes never change in a PR.
+ * Calls through interfaces reach the interface, not its implementations: recorded coverage
+ * (see {@link CoverageStore}) fills that gap.
+ */
+final class BytecodeDependencies {
+
+    private static final Pattern DESCRIPTOR_CLASS = Pattern.compile("L([^;<>]+)[;<]");
+
+    /** References of one method. */
+    private static final class MethodRefs {
+        private final Set<String> classes = new LinkedHashSet<>();
+        private final Set<String> sameClassCalls = new LinkedHashSet<>();
+        private final List<Integer> bootstrapMethods = new ArrayList<>();
+    }
+
+    /** References of one class file. */
+    private static final class ClassRefs {
+        private final Set<String> classes = new LinkedHashSet<>();
+        private final Map<String, MethodRefs> methods = new HashMap<>();
+    }
+
+    private final String prefix;
+    private final Map<String, ClassRefs> classes;
+
+    private BytecodeDependencies(String prefix, Map<String, ClassRefs> classes) {
+        this.prefix = prefix;
+        this.classes = classes;
+    }
+
+    /**
+     * Reads every class file under the given directories.
+     *
+     * @param prefix package prefix of the classes to keep ("com.vulcan.framework.")
+     */
+    static BytecodeDependencies scan(List<Path> classDirs, String prefix) throws IOException {
+        BytecodeDependencies deps = new BytecodeDependencies(prefix, new HashMap<>());
+        for (Path dir : classDirs) {
+            if (!Files.isDirectory(dir)) {
+                continue;
+            }
+            List<Path> files;
+            try (Stream<Path> walk = Files.walk(dir)) {
+                files = walk.filter(p -> p.toString().endsWith(".class")).collect(Collectors.toList());
+            }
+            for (Path file : files) {
+                deps.read(Files.readAllBytes(file));
+            }
+        }
+        return deps;
+    }
+
+    /** @return every scanned class name (binary names, e.g. "com.vulcan.framework.ui.pages.LoginPage") */
+    Set<String> classNames() {
+        return new TreeSet<>(classes.keySet());
+    }
+
+    /** @return the roots and every scanned class they reach */
+    Set<String> closure(Collection<String> roots) {
+        Set<String> reached = new TreeSet<>();
+        Deque<String> queue = new ArrayDeque<>(roots);
+        while (!queue.isEmpty()) {
+            String name = queue.poll();
+            ClassRefs refs = classes.get(name);
+            if (refs == null || !reached.add(name)) {
+                continue;
+            }
+            queue.addAll(refs.classes);
+        }
+        return reached;
+    }
+
+    /**
+     * Classes reached by running one method of a class (all overloads of that name): method level
+     * inside the declaring class, class level from the classes it uses.
+     */
+    Set<String> methodClosure(String className, String methodName) {
+        ClassRefs owner = classes.get(className);
+        if (owner == null) {
+            return new TreeSet<>();
+        }
+        Set<String> used = new LinkedHashSet<>();
+        Set<String> visited = new LinkedHashSet<>();
+        Deque<String> queue = new ArrayDeque<>();
+        for (String method : owner.methods.keySet()) {
+            String name = method.substring(0, method.indexOf('('));
+            // Cucumber instantiates the glue class before running one of its steps
+            if (name.equals(methodName) || name.equals("<init>") || name.equals("<clinit>")) {
+                queue.add(method);
+            }
+        }
+        while (!queue.isEmpty()) {
+            String method = queue.poll();
+            MethodRefs refs = owner.methods.get(method);
+            if (refs == null || !visited.add(method)) {
+                continue;
+            }
+            used.addAll(refs.classes);
+            queue.addAll(refs.sameClassCalls);
+        }
+        // Not closure(className): the class level would bring in what its other methods use
+        used.remove(className);
+        Set<String> reached = closure(used);
+        reached.add(className);
+        return reached;
+    }
+
+    // ---------------------------------------------------------------------
+    // Class file reader (JVMS chapter 4)
+    // ---------------------------------------------------------------------
+
+    private void read(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        if (in.readInt() != 0xCAFEBABE) {
+            throw new IOException("Not a class file");
+        }
+        in.readUnsignedShort();
+        in.readUnsignedShort();
+
+        int count = in.readUnsignedShort();
+        int[] tags = new int[count];
+        String[] utf8 = new String[count];
+        int[] first = new int[count];
+        int[] second = new int[count];
+        for (int i = 1; i < count; i++) {
+            int tag = in.readUnsignedByte();
+            tags[i] = tag;
+            switch (tag) {
+                case 1:
+                    utf8[i] = in.readUTF();
+                    break;
+                case 3: case 4:
+                    in.readInt();
+                    break;
+                case 5: case 6:
+                    in.readLong();
+                    i++;
+                    break;
+                case 7: case 8: case 16: case 19: case 20:
+                    first[i] = in.readUnsignedShort();
+                    break;
+                case 9: case 10: case 11: case 12: case 17: case 18:
+                    first[i] = in.readUnsignedShort();
+                    second[i] = in.readUnsignedShort();
+                    break;
+                case 15:
+                    first[i] = in.readUnsignedByte();
+                    second[i] = in.readUnsignedShort();
+                    break;
+                default:
+                    throw new IOException("Unknown constant pool tag " + tag);
+            }
+        }
+        ConstantPool pool = new ConstantPool(tags, utf8, first, second);
+
+        in.readUnsignedShort();
+        String self = pool.className(in.readUnsignedShort());
+        ClassRefs refs = new ClassRefs();
+
+        // Class level: every class constant and every class named in a descriptor or signature
+        for (int i = 1; i < count; i++) {
+            if (tags[i] == 7) {
+                addClass(refs.classes, pool.className(i));
+            } else if (tags[i] == 1) {
+                addDescriptorClasses(refs.classes, utf8[i]);
+            }
+        }
+
+        in.readUnsignedShort();
+        int interfaces = in.readUnsignedShort();
+        for (int i = 0; i < interfaces; i++) {
+            in.readUnsignedShort();
+        }
+        int fields = in.readUnsignedShort();
+        for (int i = 0; i < fields; i++) {
+            in.readUnsignedShort();
+            in.readUnsignedShort();
+            in.readUnsignedShort();
+            skipAttributes(in);
+        }
+
+        int methods = in.readUnsignedShort();
+        for (int i = 0; i < methods; i++) {
+            in.readUnsignedShort();
+            String key = utf8[in.readUnsignedShort()] + utf8[in.readUnsignedShort()];
+            MethodRefs method = new MethodRefs();
+            int attributes = in.readUnsignedShort();
+            for (int a = 0; a < attributes; a++) {
+                String name = utf8[in.readUnsignedShort()];
+                int length = in.readInt();
+                if ("Code".equals(name)) {
+                    in.readUnsignedShort();
+                    in.readUnsignedShort();
+                    byte[] code = new byte[in.readInt()];
+                    in.readFully(code);
+                    scanCode(code, pool, self, method);
+                    in.skipBytes(in.readUnsignedShort() * 8);
+                    skipAttributes(in);
+                } else {
+                    in.skipBytes(length);
+                }
+            }
+            refs.methods.put(key, method);
+        }
+
+        // Lambdas and method references: follow the method handles of their bootstrap arguments
+        List<int[]> bootstrap = new ArrayList<>();
+        int attributes = in.readUnsignedShort();
+        for (int a = 0; a < attributes; a++) {
+            String name = utf8[in.readUnsignedShort()];
+            int length = in.readInt();
+            if ("BootstrapMethods".equals(name)) {
+                int methodCount = in.readUnsignedShort();
+                for (int m = 0; m < methodCount; m++) {
+                    in.readUnsignedShort();
+                    int[] arguments = new int[in.readUnsignedShort()];
+                    for (int arg = 0; arg < arguments.length; arg++) {
+                        arguments[arg] = in.readUnsignedShort();
+                    }
+                    bootstrap.add(arguments);
+                }
+            } else {
+                in.skipBytes(length);
+            }
+        }
+        for (MethodRefs method : refs.methods.values()) {
+            for (int index : method.bootstrapMethods) {
+                if (index >= bootstrap.size()) {
+                    continue;
+                }
+                for (int argument : bootstrap.get(index)) {
+                    if (pool.tags[argument] == 15) {
+                        addMemberRef(pool, second[argument], self, method);
+                    }
+                }
+            }
+        }
+
+        String name = self.replace('/', '.');
+        refs.classes.remove(name);
+        classes.put(name, refs);
+    }
+
+    private void scanCode(byte[] code, ConstantPool pool, String self, MethodRefs method) {
+        int pc = 0;
+        while (pc < code.length) {
+            int opcode = code[pc] & 0xFF;
+            switch (opcode) {
+                case 0x12: // ldc
+                    addConstant(pool, code[pc + 1] & 0xFF, method);
+                    break;
+                case 0x13: case 0x14: // ldc_w, ldc2_w
+                    addConstant(pool, u2(code, pc + 1), method);
+                    break;
+                case 0xb2: case 0xb3: case 0xb4: case 0xb5: // field access
+                case 0xb6: case 0xb7: case 0xb8: case 0xb9: // invokes
+                    addMemberRef(pool, u2(code, pc + 1), self, method);
+                    break;
+                case 0xba: // invokedynamic
+                    method.bootstrapMethods.add(pool.first[u2(code, pc + 1)]);
+                    break;
+                case 0xbb: case 0xbd: case 0xc0: case 0xc1: case 0xc5: // new, anewarray, checkcast, instanceof, multianewarray
+                    addClass(method.classes, pool.className(u2(code, pc + 1)));
+                    break;
+                default:
+                    break;
+            }
+            pc += instructionLength(code, pc);
+        }
+    }
+
+    private void addConstant(ConstantPool pool, int index, MethodRefs method) {
+        if (pool.tags[index] == 7) {
+            addClass(method.classes, pool.className(index));
+        }
+    }
+
+    private void addMemberRef(ConstantPool pool, int index, String self, MethodRefs method) {
+        String owner = pool.className(pool.first[index]);
+        int nameAndType = pool.second[index];
+        String name = pool.utf8[pool.first[nameAndType]];
+        String descriptor = pool.utf8[pool.second[nameAndType]];
+        if (owner.equals(self)) {
+            method.sameClassCalls.add(name + descriptor);
+        } else {
+            addClass(method.classes, owner);
+        }
+        addDescriptorClasses(method.classes, descriptor);
+    }
+
+    private void addClass(Set<String> target, String internalName) {
+        if (internalName.startsWith("[")) {
+            addDescriptorClasses(target, internalName);
+            return;
+        }
+        String name = internalName.replace('/', '.');
+        if (name.startsWith(prefix)) {
+            target.add(name);
+        }
+    }
+
+    private void addDescriptorClasses(Set<String> target, String descriptor) {
+        Matcher matcher = DESCRIPTOR_CLASS.matcher(descriptor);
+        while (matcher.find()) {
+            addClass(target, matcher.group(1));
+        }
+    }
+
+    private static void skipAttributes(DataInputStream in) throws IOException {
+        int attributes = in.readUnsignedShort();
+        for (int a = 0; a < attributes; a++) {
+            in.readUnsignedShort();
+            in.skipBytes(in.readInt());
+        }
+    }
+
+    private static int u2(byte[] code, int offset) {
+        return ((code[offset] & 0xFF) << 8) | (code[offset + 1] & 0xFF);
+    }
+
+    private static int s4(byte[] code, int offset) {
+        return ((code[offset] & 0xFF) << 24) | ((code[offset + 1] & 0xFF) << 16)
+            | ((code[offset + 2] & 0xFF) << 8) | (code[offset + 3] & 0xFF);
+    }
+
+    /** Length of the instruction at {@code pc}, operands included. */
+    private static int instructionLength(byte[] code, int pc) {
+        int opcode = code[pc] & 0xFF;
+        if (opcode == 0xaa || opcode == 0xab) {
+            int operands = (pc + 4) & ~3; // 0-3 padding bytes after the opcode
+            if (opcode == 0xaa) {
+                int low = s4(code, operands + 4);
+                int high = s4(code, operands + 8);
+                return operands - pc + 12 + (high - low + 1) * 4;
+            }
+            return operands - pc + 8 + s4(code, operands + 4) * 8;
+        }
+        if (opcode == 0xc4) {
+            return (code[pc + 1] & 0xFF) == 0x84 ? 6 : 4;
+        }
+        if (opcode == 0x10 || opcode == 0x12 || (opcode >= 0x15 && opcode <= 0x19)
+                || (opcode >= 0x36 && opcode <= 0x3a) || opcode == 0xa9 || opcode == 0xbc) {
+            return 2;
+        }
+        if (opcode == 0x11 || opcode == 0x13 || opcode == 0x14 || opcode == 0x84
+                || (opcode >= 0x99 && opcode <= 0xa8) || (opcode >= 0xb2 && opcode <= 0xb8)
+                || opcode == 0xbb || opcode == 0xbd || opcode == 0xc0 || opcode == 0xc1
+                || opcode == 0xc6 || opcode == 0xc7) {
+            return 3;
+        }
+        if (opcode == 0xc5) {
+            return 4;
+        }
+        if (opcode == 0xb9 || opcode == 0xba || opcode == 0xc8 || opcode == 0xc9) {
+            return 5;
+        }
+        return 1;
+    }
+
+    /** Resolved view of the constant pool entries the scanner needs. */
+    private static final class ConstantPool {
+        private final int[] tags;
+        private final String[] utf8;
+        private final int[] first;
+        private final int[] second;
+
+        ConstantPool(int[] tags, String[] utf8, int[] first, int[] second) {
+            this.tags = tags;
+            this.utf8 = utf8;
+            this.first = first;
+            this.second = second;
+        }
+
+        String className(int classIndex) {
+            return utf8[first[classIndex]];
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.runners.impact;
+
+import com.vulcan.framework.config.ConfigManager;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Framework classes each scenario executed, recorded from JaCoCo probes during full runs
+ * (-Pimpact.record, ImpactCoveragePlugin) and read by {@link ImpactAnalyzer}.
+ *
+ * File format (impact.coverage.file, default .vulcan/impact/coverage.tsv; keep it between CI runs):
+ * one line per scenario, "path:line" TAB comma-separated class names. A scenario recorded again
+ * replaces its previous line, so the file follows the code as it changes.
+ */
+public final class CoverageStore {
+
+    private static final int BLOCK_HEADER = 0x01;
+    private static final int BLOCK_SESSION_INFO = 0x10;
+    private static final int BLOCK_EXECUTION_DATA = 0x11;
+
+    private final Path file;
+
+    public CoverageStore(Path file) {
+        this.file = file;
+    }
+
+    /** @return the store configured by impact.coverage.file */
+    public static CoverageStore configured() {
+        String file = ConfigManager.getInstance().get("impact.coverage.file", "").trim();
+        return new CoverageStore(Paths.get(file.isEmpty() ? ".vulcan/impact/coverage.tsv" : file));
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    /** @return covered classes keyed by scenario "path:line" (empty when nothing was recorded yet) */
+    public Map<String, Set<String>> load() throws IOException {
+        Map<String, Set<String>> coverage = new TreeMap<>();
+        if (!Files.exists(file)) {
+            return coverage;
+        }
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            int tab = line.indexOf('\t');
+            if (tab > 0) {
+                Set<String> classes = new TreeSet<>(Arrays.asList(line.substring(tab + 1).split(",")));
+                classes.remove("");
+                coverage.put(line.substring(0, tab), classes);
+            }
+        }
+        return coverage;
+    }
+
+    /** Replaces the coverage of the given scenarios, keeping every other scenario. */
+    public void record(Map<String, Set<String>> run) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        try (FileChannel lockChannel = FileChannel.open(parent.resolve(file.getFileName() + ".lock"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock lock = lockChannel.lock()) {
+
+            Map<String, Set<String>> coverage = load();
+            coverage.putAll(run);
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (BufferedWriter out = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, Set<String>> entry : coverage.entrySet()) {
+                    out.write(entry.getKey() + "\t" + String.join(",", new TreeSet<>(entry.getValue())));
+                    out.newLine();
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    /**
+     * Reads JaCoCo execution data (the agent's dump format) and returns the classes with at least
+     * one probe hit.
+     *
+     * @param prefix package prefix of the classes to keep ("com.vulcan.framework.")
+     * @return binary class names ("com.vulcan.framework.ui.pages.LoginPage")
+     */
+    public static Set<String> coveredClasses(byte[] executionData, String prefix) throws IOException {
+        Set<String> classes = new TreeSet<>();
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(executionData));
+        while (in.available() > 0) {
+            int block = in.readUnsignedByte();
+            switch (block) {
+                case BLOCK_HEADER:
+                    in.readChar();
+                    in.readChar();
+                    break;
+                case BLOCK_SESSION_INFO:
+                    in.readUTF();
+                    in.readLong();
+                    in.readLong();
+                    break;
+                case BLOCK_EXECUTION_DATA:
+                    in.readLong();
+                    String name = in.readUTF().replace('/', '.');
+                    // Probes: varint count, then one bit per probe
+                    int probes = readVarInt(in);
+                    boolean hit = false;
+                    for (int i = 0; i < (probes + 7) / 8; i++) {
+                        hit |= in.readByte() != 0;
+                    }
+                    if (hit && name.startsWith(prefix)) {
+                        classes.add(name);
+                    }
+                    break;
+                default:
+                    throw new IOException("Unknown JaCoCo execution data block 0x" + Integer.toHexString(block));
+            }
+        }
+        return classes;
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = in.readUnsignedByte();
+        if ((value & 0x80) == 0) {
+            return value;
+        }
+        return (value & 0x7F) | (readVarInt(in) << 7);
+    }
+}
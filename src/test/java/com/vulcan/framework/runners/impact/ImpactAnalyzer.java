@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.runners.impact;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vulcan.framework.config.ConfigManager;
+import com.vulcan.framework.runners.index.PickleIndex;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Test impact analysis (Gradle task impactSelect): selects the scenarios affected by the changes
+ * of the current branch, and writes them as "path:line" lines to vulcan.impact.selection.
+ * uiTest / apiTest / test run only those with -Pimpact (see ScenarioSelection).
+ *
+ * Dependency map, per scenario (pickle index entry):
+ * - Its step definitions (glue linked in the pickle index) and what they use: page objects, actions,
+ *   API clients, core classes... ({@link BytecodeDependencies}, from the compiled classes).
+ * - Plus the classes it executed in recorded runs ({@link CoverageStore}), when available. This catches
+ *   what static analysis cannot see (implementations behind interfaces, reflection).
+ * - Hooks, plugins and runners run for every scenario: a change reaching them selects everything.
+ *
+ * Changed files: git diff of impact.base...HEAD (default origin/main) plus uncommitted and untracked
+ * files, or the comma-separated impact.files list.
+ * - src/test/java/**.java: scenarios depending on that class (nested classes included)
+ * - *.feature: every scenario of the file
+ * - build scripts, Gradle wrapper, other test resources and sources: everything
+ * - anything else (docs, CI config, benchmarks): nothing
+ *
+ * Every decision goes to impact-report.json next to the selection, the dependency map to impact-map.json.
+ */
+public final class ImpactAnalyzer {
+
+    private static final Logger logger = LogManager.getLogger(ImpactAnalyzer.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    static final String FRAMEWORK_PREFIX = "com.vulcan.framework.";
+    private static final String JAVA_SOURCES = "src/test/java/";
+    private static final List<String> GLOBAL_PACKAGES = Arrays.asList(
+        FRAMEWORK_PREFIX + "hooks.", FRAMEWORK_PREFIX + "plugins.", FRAMEWORK_PREFIX + "runners.");
+    private static final String IMPACT_PACKAGE = FRAMEWORK_PREFIX + "runners.impact.";
+    private static final List<String> BUILD_FILES = Arrays.asList(
+        "build.gradle", "settings.gradle", "gradle.properties", "gradlew", "gradlew.bat");
+
+    private ImpactAnalyzer() {
+        // Utility class: prevent instantiation
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path indexFile = Paths.get(required("vulcan.pickleIndex"));
+        Path selectionFile = Paths.get(required("vulcan.impact.selection"));
+        List<Path> classDirs = Arrays.stream(required("vulcan.impact.classes").split(File.pathSeparator))
+            .filter(dir -> !dir.isBlank())
+            .map(Paths::get)
+            .collect(Collectors.toList());
+
+        PickleIndex index = PickleIndex.read(indexFile);
+        BytecodeDependencies dependencies = BytecodeDependencies.scan(classDirs, FRAMEWORK_PREFIX);
+        CoverageStore coverageStore = CoverageStore.configured();
+        Map<String, Set<String>> coverage = coverageStore.load();
+
+        Set<String> global = dependencies.closure(dependencies.classNames().stream()
+            .filter(name -> GLOBAL_PACKAGES.stream().anyMatch(name::startsWith) && !name.startsWith(IMPACT_PACKAGE))
+            .collect(Collectors.toList()));
+        Map<String, Set<String>> scenarioClasses = scenarioClasses(index, dependencies, coverage);
+
+        ConfigManager config = ConfigManager.getInstance();
+        String base = config.get("impact.base", "origin/main").trim();
+        String explicitFiles = config.get("impact.files", "").trim();
+        List<String> changedFiles = explicitFiles.isEmpty()
+            ? changedFiles(base)
+            : Arrays.stream(explicitFiles.split(",")).map(String::trim).filter(f -> !f.isEmpty())
+                .collect(Collectors.toList());
+
+        Set<String> selected = new LinkedHashSet<>();
+        List<Map<String, Object>> decisions = new ArrayList<>();
+        boolean everything = changedFiles == null;
+        for (String file : changedFiles == null ? List.<String>of() : changedFiles) {
+            String path = file.replace('\\', '/');
+            Map<String, Object> decision = new LinkedHashMap<>();
+            decision.put("file", path);
+            Set<String> affected = new TreeSet<>();
+            String rule;
+            if (path.endsWith(".feature")) {
+                rule = "feature";
+                for (PickleIndex.FeatureEntry feature : index.features()) {
+                    if (feature.path().equals(path)) {
+                        feature.pickles().forEach(pickle -> affected.add(feature.path() + ":" + pickle.line()));
+                    }
+                }
+            } else if (path.startsWith(JAVA_SOURCES) && path.endsWith(".java")) {
+                String className = path.substring(JAVA_SOURCES.length(), path.length() - ".java".length()).replace('/', '.');
+                if (className.startsWith(IMPACT_PACKAGE)) {
+                    rule = "impact-analysis";
+                } else if (matches(global, className)) {
+                    rule = "global";
+                    everything = true;
+                } else {
+                    rule = "class";
+                    scenarioClasses.forEach((scenario, classes) -> {
+                        if (matches(classes, className)) {
+                            affected.add(scenario);
+                        }
+                    });
+                }
+            } else if (path.startsWith("src/test/") || path.startsWith("src/main/") || path.startsWith("src/processor/")
+                    || path.startsWith("gradle/") || BUILD_FILES.contains(path)) {
+                rule = "global";
+                everything = true;
+            } else {
+                rule = "ignored";
+            }
+            decision.put("rule", rule);
+            decision.put("scenarios", affected);
+            decisions.add(decision);
+            selected.addAll(affected);
+        }
+
+        List<String> selection = new ArrayList<>();
+        for (PickleIndex.FeatureEntry feature : index.features()) {
+            for (PickleIndex.PickleEntry pickle : feature.pickles()) {
+                String scenario = feature.path() + ":" + pickle.line();
+                if (everything || selected.contains(scenario)) {
+                    selection.add(scenario);
+                }
+            }
+        }
+
+        Files.createDirectories(selectionFile.toAbsolutePath().getParent());
+        Files.write(selectionFile, selection, StandardCharsets.UTF_8);
+        writeReports(selectionFile.resolveSibling("impact-report.json"), selectionFile.resolveSibling("impact-map.json"),
+            explicitFiles.isEmpty() ? base : null, changedFiles, everything, decisions, selection, global, scenarioClasses);
+
+        int total = scenarioClasses.size();
+        logger.info("Impact analysis | changed files={} | selected {} of {} scenario(s){} | coverage={} ({} scenario(s)) | {}",
+            changedFiles == null ? "unknown" : changedFiles.size(), selection.size(), total,
+            everything ? " (everything)" : "", coverageStore.file(), coverage.size(), selectionFile);
+    }
+
+    /** @return every scenario of the index with the framework classes it depends on */
+    static Map<String, Set<String>> scenarioClasses(PickleIndex index, BytecodeDependencies dependencies,
+                                                    Map<String, Set<String>> coverage) {
+        Map<String, Set<String>> stepClosures = new LinkedHashMap<>();
+        Map<String, Set<String>> scenarios = new LinkedHashMap<>();
+        for (PickleIndex.FeatureEntry feature : index.features()) {
+            for (PickleIndex.PickleEntry pickle : feature.pickles()) {
+                String scenario = feature.path() + ":" + pickle.line();
+                Set<String> classes = new TreeSet<>(coverage.getOrDefault(scenario, Set.of()));
+                for (PickleIndex.StepEntry step : pickle.steps()) {
+                    // "class#method(params)", " | "-joined when ambiguous, empty when undefined
+                    for (String glue : step.glue().split(" \\| ")) {
+                        int hash = glue.indexOf('#');
+                        int paren = glue.indexOf('(', hash);
+                        if (hash <= 0 || paren < 0) {
+                            continue;
+                        }
+                        classes.addAll(stepClosures.computeIfAbsent(glue, g -> dependencies.methodClosure(
+                            g.substring(0, hash), g.substring(hash + 1, paren))));
+                    }
+                }
+                scenarios.put(scenario, classes);
+            }
+        }
+        return scenarios;
+    }
+
+    /** @return true when the set holds the class or one of its nested classes */
+    private static boolean matches(Set<String> classes, String className) {
+        for (String name : classes) {
+            if (name.equals(className) || name.startsWith(className + "$")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return files changed on this branch since its merge base with {@code base}, plus uncommitted and
+     *         untracked files; null when git cannot tell (unknown base, shallow clone...)
+     */
+    private static List<String> changedFiles(String base) {
+        Set<String> files = new TreeSet<>();
+        for (List<String> command : Arrays.asList(
+                Arrays.asList("git", "diff", "--name-only", base + "...HEAD"),
+                Arrays.asList("git", "diff", "--name-only", "HEAD"),
+                Arrays.asList("git", "ls-files", "--others", "--exclude-standard"))) {
+            List<String> output = git(command);
+            if (output == null) {
+                logger.warn("'{}' failed; every scenario is selected (set -Pimpact.base or fetch the base branch)",
+                    String.join(" ", command));
+                return null;
+            }
+            files.addAll(output);
+        }
+        return new ArrayList<>(files);
+    }
+
+    private static List<String> git(List<String> command) {
+        try {
+            Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.DISCARD).start();
+            String output;
+            try (InputStream in = process.getInputStream()) {
+                output = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            if (process.waitFor() != 0) {
+                return null;
+            }
+            return output.lines().map(String::trim).filter(line -> !line.isEmpty()).collect(Collectors.toList());
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static void writeReports(Path reportFile, Path mapFile, String base, List<String> changedFiles,
+                                     boolean everything, List<Map<String, Object>> decisions, List<String> selection,
+                                     Set<String> global, Map<String, Set<String>> scenarioClasses) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", Instant.now().toString());
+        report.put("base", base);
+        report.put("changedFiles", changedFiles);
+        report.put("everything", everything);
+        report.put("decisions", decisions);
+        report.put("selected", selection);
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(reportFile.toFile(), report);
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("global", global);
+        map.put("scenarios", scenarioClasses);
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(mapFile.toFile(), map);
+    }
+
+    private static String required(String property) {
+        String value = System.getProperty(property);
+        if (value == null || value.isBlank()) {
+            throw new IllegalStateException("Missing system property " + property + " (run ./gradlew impactSelect)");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.runners.index;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Precompiled view of every scenario (pickle) of the feature files, written at build time
+ * by {@link PickleIndexer} and read by the runner instead of scanning the features directory.
+ *
+ * Binary layout (DataOutputStream): magic, version, then per feature file its path, content hash
+ * and pickles; per pickle its line, name, tags and steps (text + linked step definition).
+ */
+public final class PickleIndex {
+
+    private static final int MAGIC = 0x56504958; // "VPIX"
+    private static final int VERSION = 1;
+
+    private final List<FeatureEntry> features;
+
+    public PickleIndex(List<FeatureEntry> features) {
+        this.features = Collections.unmodifiableList(features);
+    }
+
+    public List<FeatureEntry> features() {
+        return features;
+    }
+
+    /** One feature file. */
+    public static final class FeatureEntry {
+        private final String path;
+        private final String sha256;
+        private final List<PickleEntry> pickles;
+
+        public FeatureEntry(String path, String sha256, List<PickleEntry> pickles) {
+            this.path = path;
+            this.sha256 = sha256;
+            this.pickles = Collections.unmodifiableList(pickles);
+        }
+
+        /** @return path relative to the project directory, with '/' separators */
+        public String path() {
+            return path;
+        }
+
+        public String sha256() {
+            return sha256;
+        }
+
+        public List<PickleEntry> pickles() {
+            return pickles;
+        }
+    }
+
+    /** One scenario, or one examples row of a scenario outline. */
+    public static final class PickleEntry {
+        private final int line;
+        private final String name;
+        private final List<String> tags;
+        private final List<StepEntry> steps;
+
+        public PickleEntry(int line, String name, List<String> tags, List<StepEntry> steps) {
+            this.line = line;
+            this.name = name;
+            this.tags = Collections.unmodifiableList(tags);
+            this.steps = Collections.unmodifiableList(steps);
+        }
+
+        /** @return line Cucumber uses to select this pickle (scenario line, or examples row line) */
+        public int line() {
+            return line;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public List<String> tags() {
+            return tags;
+        }
+
+        public List<StepEntry> steps() {
+            return steps;
+        }
+    }
+
+    /** One step of a pickle. */
+    public static final class StepEntry {
+        private final String text;
+        private final String glue;
+
+        public StepEntry(String text, String glue) {
+            this.text = text;
+            this.glue = glue;
+        }
+
+        public String text() {
+            return text;
+        }
+
+        /** @return matching step definition as class#method(params), or "" when undefined */
+        public String glue() {
+            return glue;
+        }
+    }
+
+    public static PickleIndex read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Not a pickle index (or an older format): " + file);
+            }
+            int featureCount = in.readInt();
+            List<FeatureEntry> features = new ArrayList<>(featureCount);
+            for (int f = 0; f < featureCount; f++) {
+                String path = in.readUTF();
+                String sha256 = in.readUTF();
+                int pickleCount = in.readInt();
+                List<PickleEntry> pickles = new ArrayList<>(pickleCount);
+                for (int p = 0; p < pickleCount; p++) {
+                    int line = in.readInt();
+                    String name = in.readUTF();
+                    int tagCount = in.readInt();
+                    List<String> tags = new ArrayList<>(tagCount);
+                    for (int t = 0; t < tagCount; t++) {
+                        tags.add(in.readUTF());
+                    }
+                    int stepCount = in.readInt();
+                    List<StepEntry> steps = new ArrayList<>(stepCount);
+                    for (int s = 0; s < stepCount; s++) {
+                        steps.add(new StepEntry(in.readUTF(), in.readUTF()));
+                    }
+                    pickles.add(new PickleEntry(line, name, tags, steps));
+                }
+                features.add(new FeatureEntry(path, sha256, pickles));
+            }
+            return new PickleIndex(features);
+        }
+    }
+
+    /** Writes the index atomically (a reader never sees a partial file). */
+    public void write(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(features.size());
+            for (FeatureEntry feature : features) {
+                out.writeUTF(feature.path);
+                out.writeUTF(feature.sha256);
+                out.writeInt(feature.pickles.size());
+                for (PickleEntry pickle : feature.pickles) {
+                    out.writeInt(pickle.line);
+                    out.writeUTF(pickle.name);
+                    out.writeInt(pickle.tags.size());
+                    for (String tag : pickle.tags) {
+                        out.writeUTF(tag);
+                    }
+                    out.writeInt(pickle.steps.size());
+                    for (StepEntry step : pickle.steps) {
+                        out.writeUTF(step.text);
+                        out.writeUTF(step.glue);
+                    }
+                }
+            }
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
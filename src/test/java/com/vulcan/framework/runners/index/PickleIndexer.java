@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.runners.index;
+
+import io.cucumber.gherkin.GherkinParser;
+import io.cucumber.messages.types.Envelope;
+import io.cucumber.messages.types.Examples;
+import io.cucumber.messages.types.FeatureChild;
+import io.cucumber.messages.types.GherkinDocument;
+import io.cucumber.messages.types.Pickle;
+import io.cucumber.messages.types.PickleStep;
+import io.cucumber.messages.types.PickleTag;
+import io.cucumber.messages.types.RuleChild;
+import io.cucumber.messages.types.Scenario;
+import io.cucumber.messages.types.TableRow;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Build-time compiler of the feature files into a {@link PickleIndex} (Gradle task pickleIndex).
+ *
+ * - Feature files whose content hash did not change since the previous index are not parsed again.
+ * - Every step is linked to its step definition through the {@link StepIndex}; undefined and
+ *   ambiguous steps are reported (Cucumber still reports them at run time as well).
+ *
+ * Usage: PickleIndexer &lt;features dir&gt; &lt;index file&gt;
+ */
+public final class PickleIndexer {
+
+    private static final Logger logger = LogManager.getLogger(PickleIndexer.class);
+
+    private PickleIndexer() {
+        // Utility class: prevent instantiation
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: PickleIndexer <features dir> <index file>");
+        }
+        Path featuresDir = Paths.get(args[0]);
+        Path indexFile = Paths.get(args[1]);
+
+        Map<String, PickleIndex.FeatureEntry> previous = new HashMap<>();
+        if (Files.exists(indexFile)) {
+            try {
+                for (PickleIndex.FeatureEntry feature : PickleIndex.read(indexFile).features()) {
+                    previous.put(feature.path(), feature);
+                }
+            } catch (IOException e) {
+                logger.info("Previous pickle index ignored: {}", e.getMessage());
+            }
+        }
+
+        StepIndex steps = StepIndex.load();
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(featuresDir)) {
+            files = walk.filter(p -> p.toString().endsWith(".feature")).sorted().collect(Collectors.toList());
+        }
+
+        List<PickleIndex.FeatureEntry> features = new ArrayList<>();
+        int parsed = 0;
+        int undefined = 0;
+        for (Path file : files) {
+            String path = file.toString().replace('\\', '/');
+            String sha256 = sha256(Files.readAllBytes(file));
+            PickleIndex.FeatureEntry cached = previous.get(path);
+            List<PickleIndex.PickleEntry> pickles;
+            if (cached != null && cached.sha256().equals(sha256)) {
+                pickles = cached.pickles();
+            } else {
+                pickles = parse(file);
+                parsed++;
+            }
+            List<PickleIndex.PickleEntry> linked = link(pickles, steps);
+            for (PickleIndex.PickleEntry pickle : linked) {
+                for (PickleIndex.StepEntry step : pickle.steps()) {
+                    if (step.glue().isEmpty()) {
+                        undefined++;
+                        logger.warn("Undefined step | {}:{} | {}", path, pickle.line(), step.text());
+                    } else if (step.glue().contains(" | ")) {
+                        logger.warn("Ambiguous step | {}:{} | {} | {}", path, pickle.line(), step.text(), step.glue());
+                    }
+                }
+            }
+            features.add(new PickleIndex.FeatureEntry(path, sha256, linked));
+        }
+
+        new PickleIndex(features).write(indexFile);
+        logger.info("Pickle index written | features={} | parsed={} | pickles={} | stepDefinitions={} | undefinedSteps={} | file={}",
+            features.size(), parsed, features.stream().mapToInt(f -> f.pickles().size()).sum(), steps.size(), undefined, indexFile);
+    }
+
+    private static List<PickleIndex.PickleEntry> parse(Path file) throws IOException {
+        GherkinParser parser = GherkinParser.builder()
+            .includeSource(false)
+            .includeGherkinDocument(true)
+            .includePickles(true)
+            .build();
+        List<Envelope> envelopes;
+        try (Stream<Envelope> stream = parser.parse(file)) {
+            envelopes = stream.collect(Collectors.toList());
+        }
+
+        Map<String, Integer> lines = new HashMap<>();
+        List<PickleIndex.PickleEntry> pickles = new ArrayList<>();
+        for (Envelope envelope : envelopes) {
+            envelope.getParseError().ifPresent(error -> {
+                throw new IllegalStateException("Cannot parse " + file + ": " + error.getMessage());
+            });
+            envelope.getGherkinDocument().ifPresent(document -> collectLines(document, lines));
+            envelope.getPickle().ifPresent(pickle -> pickles.add(toEntry(pickle, lines)));
+        }
+        return pickles;
+    }
+
+    /** Scenario and examples-row lines by AST node id (pickles only carry ids). */
+    private static void collectLines(GherkinDocument document, Map<String, Integer> lines) {
+        document.getFeature().ifPresent(feature -> {
+            for (FeatureChild child : feature.getChildren()) {
+                child.getScenario().ifPresent(scenario -> collectLines(scenario, lines));
+                child.getRule().ifPresent(rule -> {
+                    for (RuleChild ruleChild : rule.getChildren()) {
+                        ruleChild.getScenario().ifPresent(scenario -> collectLines(scenario, lines));
+                    }
+                });
+            }
+        });
+    }
+
+    private static void collectLines(Scenario scenario, Map<String, Integer> lines) {
+        lines.put(scenario.getId(), scenario.getLocation().getLine().intValue());
+        for (Examples examples : scenario.getExamples()) {
+            for (TableRow row : examples.getTableBody()) {
+                lines.put(row.getId(), row.getLocation().getLine().intValue());
+            }
+        }
+    }
+
+    private static PickleIndex.PickleEntry toEntry(Pickle pickle, Map<String, Integer> lines) {
+        // Last AST node: the examples row for outline pickles, the scenario otherwise
+        List<String> nodeIds = pickle.getAstNodeIds();
+        Integer line = lines.get(nodeIds.get(nodeIds.size() - 1));
+        List<String> tags = pickle.getTags().stream().map(PickleTag::getName).collect(Collectors.toList());
+        List<PickleIndex.StepEntry> steps = new ArrayList<>();
+        for (PickleStep step : pickle.getSteps()) {
+            steps.add(new PickleIndex.StepEntry(step.getText(), ""));
+        }
+        return new PickleIndex.PickleEntry(line == null ? 0 : line, pickle.getName(), tags, steps);
+    }
+
+    private static List<PickleIndex.PickleEntry> link(List<PickleIndex.PickleEntry> pickles, StepIndex steps) {
+        List<PickleIndex.PickleEntry> linked = new ArrayList<>(pickles.size());
+        for (PickleIndex.PickleEntry pickle : pickles) {
+            List<PickleIndex.StepEntry> linkedSteps = new ArrayList<>(pickle.steps().size());
+            for (PickleIndex.StepEntry step : pickle.steps()) {
+                linkedSteps.add(new PickleIndex.StepEntry(step.text(), steps.match(step.text())));
+            }
+            linked.add(new PickleIndex.PickleEntry(pickle.line(), pickle.name(), pickle.tags(), linkedSteps));
+        }
+        return linked;
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.runners.index;
+
+import com.vulcan.framework.shared.history.ScenarioOutcomeStore;
+
+import io.cucumber.tagexpressions.Expression;
+import io.cucumber.tagexpressions.TagExpressionParser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Resolves which scenarios this JVM runs from the {@link PickleIndex}, before Cucumber starts.
+ *
+ * The selection (cucumber.features roots, cucumber.filter.tags, cucumber.filter.name) is applied
+ * to the index, and cucumber.features is replaced by the exact "file:line:line" list of the selected
+ * pickles. Cucumber then reads only those feature files instead of scanning the features directory
+ * and parsing every file to evaluate the filters.
+ *
+ * The original settings are used unchanged when there is no index (vulcan.pickleIndex), when
+ * cucumber.features already has line filters, classpath: URIs or @rerun files, or when nothing would be selected.
+ *
+ * Quarantine: scenarios quarantined as flaky ({@link ScenarioOutcomeStore}) count as tagged
+ * {@code @quarantine}, and {@code @quarantine} scenarios are excluded unless the tag expression
+ * mentions the tag (quarantineTest runs "@quarantine"). Cucumber does not know the derived tag, so
+ * the tag and name filters are cleared once they have been applied here.
+ *
+ * Test impact analysis: with vulcan.impact.selection (Gradle -Pimpact), only the scenarios listed in that
+ * file (ImpactAnalyzer, one "path:line" per line) are selected.
+ */
+public final class ScenarioSelection {
+
+    private static final Logger logger = LogManager.getLogger(ScenarioSelection.class);
+    private static final Pattern LINE_FILTER = Pattern.compile(".*:\\d+$");
+
+    /** Tag of scenarios that only run in the quarantine suite. */
+    public static final String QUARANTINE_TAG = "@quarantine";
+
+    private ScenarioSelection() {
+        // Utility class: prevent instantiation
+    }
+
+    /** Rewrites cucumber.features from the pickle index when possible. */
+    public static void applyFromIndex() {
+        String indexPath = System.getProperty("vulcan.pickleIndex");
+        String features = System.getProperty("cucumber.features");
+        if (indexPath == null || features == null || features.isBlank()) {
+            return;
+        }
+        Path indexFile = Paths.get(indexPath);
+        if (!Files.exists(indexFile)) {
+            logger.info("No pickle index at {}; Cucumber scans {}", indexFile, features);
+            return;
+        }
+
+        List<String> roots = new ArrayList<>();
+        for (String feature : features.split(",")) {
+            String root = feature.trim().replace('\\', '/');
+            if (root.startsWith("classpath:") || root.startsWith("@") || LINE_FILTER.matcher(root).matches()) {
+                return;
+            }
+            roots.add(root.endsWith("/") ? root.substring(0, root.length() - 1) : root);
+        }
+
+        PickleIndex index;
+        try {
+            index = PickleIndex.read(indexFile);
+        } catch (IOException e) {
+            logger.warn("Pickle index unreadable ({}); Cucumber scans {}", e.getMessage(), features);
+            return;
+        }
+
+        List<String> scenarios = select(index, roots);
+        if (scenarios.isEmpty() && impactSelection() != null) {
+            // Cucumber's own scan would run the scenarios the change does not affect: match no scenario name
+            System.setProperty("cucumber.filter.name", "^(?!)");
+            logger.info("Impact selection | no affected scenario under {}", roots);
+            return;
+        }
+        if (scenarios.isEmpty()) {
+            // Let Cucumber's own scan at least skip the scenarios tagged @quarantine in the feature files
+            System.setProperty("cucumber.filter.tags", effectiveTags(System.getProperty("cucumber.filter.tags")));
+            logger.info("Pickle index selected no scenarios; Cucumber scans {}", features);
+            return;
+        }
+
+        // "path:line" entries are in index order, so the lines of a feature file are consecutive
+        List<String> selected = new ArrayList<>();
+        String currentPath = null;
+        StringBuilder current = null;
+        for (String scenario : scenarios) {
+            int colon = scenario.lastIndexOf(':');
+            String path = scenario.substring(0, colon);
+            if (!path.equals(currentPath)) {
+                if (current != null) {
+                    selected.add(current.toString());
+                }
+                currentPath = path;
+                current = new StringBuilder(path);
+            }
+            current.append(scenario, colon, scenario.length());
+        }
+        selected.add(current.toString());
+
+        System.setProperty("cucumber.features", String.join(",", selected));
+        System.clearProperty("cucumber.filter.tags");
+        System.clearProperty("cucumber.filter.name");
+        logger.info("Pickle index | selected {} scenario(s) in {} feature file(s) | roots={}",
+            scenarios.size(), selected.size(), roots);
+    }
+
+    /**
+     * Selection of this JVM: cucumber.filter.tags and cucumber.filter.name, with quarantined scenarios
+     * excluded unless the tag expression mentions {@value #QUARANTINE_TAG}, restricted to the impact
+     * selection (vulcan.impact.selection) when there is one.
+     *
+     * @param roots feature paths relative to the project ("src/test/resources/features/ui")
+     * @return one "path:line" entry per selected pickle, in index order
+     */
+    public static List<String> select(PickleIndex index, List<String> roots) {
+        List<String> scenarios = select(index, roots, effectiveTags(System.getProperty("cucumber.filter.tags")),
+            System.getProperty("cucumber.filter.name"), quarantined());
+        Set<String> impacted = impactSelection();
+        if (impacted != null) {
+            scenarios.retainAll(impacted);
+        }
+        return scenarios;
+    }
+
+    /**
+     * Applies the feature roots and the tag/name filters to the index.
+     *
+     * @param roots feature paths relative to the project ("src/test/resources/features/ui")
+     * @param tags  Cucumber tag expression, or null/blank for none
+     * @param name  regular expression matched against the scenario name, or null/blank for none
+     * @param quarantined "path:line" of the scenarios evaluated as tagged {@value #QUARANTINE_TAG}
+     * @return one "path:line" entry per selected pickle, in index order
+     */
+    public static List<String> select(PickleIndex index, List<String> roots, String tags, String name,
+                                      Set<String> quarantined) {
+        Expression tagFilter = tags == null || tags.isBlank() ? null : TagExpressionParser.parse(tags);
+        Pattern nameFilter = name == null || name.isBlank() ? null : Pattern.compile(name);
+
+        List<String> scenarios = new ArrayList<>();
+        for (PickleIndex.FeatureEntry feature : index.features()) {
+            if (!isUnder(feature.path(), roots)) {
+                continue;
+            }
+            for (PickleIndex.PickleEntry pickle : feature.pickles()) {
+                String scenario = feature.path() + ":" + pickle.line();
+                List<String> tagNames = pickle.tags();
+                if (quarantined.contains(scenario)) {
+                    tagNames = new ArrayList<>(tagNames);
+                    tagNames.add(QUARANTINE_TAG);
+                }
+                if (tagFilter != null && !tagFilter.evaluate(tagNames)) {
+                    continue;
+                }
+                if (nameFilter != null && !nameFilter.matcher(pickle.name()).find()) {
+                    continue;
+                }
+                scenarios.add(scenario);
+            }
+        }
+        return scenarios;
+    }
+
+    /** @return the tag expression with quarantined scenarios excluded, unless it mentions the quarantine tag */
+    static String effectiveTags(String tags) {
+        if (tags == null || tags.isBlank()) {
+            return "not " + QUARANTINE_TAG;
+        }
+        if (tags.contains(QUARANTINE_TAG)) {
+            return tags;
+        }
+        return "(" + tags + ") and not " + QUARANTINE_TAG;
+    }
+
+    /** @return "path:line" of the scenarios currently quarantined as flaky */
+    private static Set<String> quarantined() {
+        Set<String> quarantined = new HashSet<>();
+        try {
+            ScenarioOutcomeStore.configured().load().values().stream()
+                .filter(ScenarioOutcomeStore.Entry::quarantined)
+                .forEach(entry -> quarantined.add(entry.key()));
+        } catch (IOException e) {
+            logger.warn("Scenario outcomes unreadable ({}); no scenario is quarantined", e.getMessage());
+        }
+        return quarantined;
+    }
+
+    /** @return "path:line" of the scenarios affected by the change, or null when not running an impact selection */
+    private static Set<String> impactSelection() {
+        String file = System.getProperty("vulcan.impact.selection");
+        if (file == null || file.isBlank()) {
+            return null;
+        }
+        try {
+            return new HashSet<>(Files.readAllLines(Paths.get(file)));
+        } catch (IOException e) {
+            logger.warn("Impact selection unreadable ({}); scenarios are not filtered by impact", e.getMessage());
+            return null;
+        }
+    }
+
+    private static boolean isUnder(String path, List<String> roots) {
+        for (String root : roots) {
+            if (path.equals(root) || path.startsWith(root + "/")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.runners.index;
+
+import io.cucumber.cucumberexpressions.Expression;
+import io.cucumber.cucumberexpressions.ExpressionFactory;
+import io.cucumber.cucumberexpressions.ParameterTypeRegistry;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Step definitions of the test source set, read from the index generated at compile time
+ * by the StepIndexProcessor annotation processor (META-INF/vulcan/step-index.tsv).
+ *
+ * Expressions are compiled with Cucumber's own ExpressionFactory (cucumber expressions and
+ * regular expressions), using the built-in parameter types.
+ */
+public final class StepIndex {
+
+    static final String RESOURCE = "META-INF/vulcan/step-index.tsv";
+
+    private final List<Definition> definitions;
+
+    private StepIndex(List<Definition> definitions) {
+        this.definitions = definitions;
+    }
+
+    private static final class Definition {
+        private final Expression expression;
+        private final String method;
+
+        private Definition(Expression expression, String method) {
+            this.expression = expression;
+            this.method = method;
+        }
+    }
+
+    /** Loads the index from the classpath (empty when it was not generated). */
+    public static StepIndex load() throws IOException {
+        InputStream resource = StepIndex.class.getClassLoader().getResourceAsStream(RESOURCE);
+        if (resource == null) {
+            return new StepIndex(Collections.emptyList());
+        }
+        ExpressionFactory factory = new ExpressionFactory(new ParameterTypeRegistry(Locale.ENGLISH));
+        List<Definition> definitions = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split("\t", 3);
+                if (fields.length == 3) {
+                    definitions.add(new Definition(factory.createExpression(unescape(fields[1])), fields[2]));
+                }
+            }
+        }
+        return new StepIndex(definitions);
+    }
+
+    public int size() {
+        return definitions.size();
+    }
+
+    /**
+     * @return the step definition matching {@code stepText} as class#method(params), "" when none does,
+     *         or the matches joined with " | " when the step is ambiguous
+     */
+    public String match(String stepText) {
+        List<String> matches = new ArrayList<>(1);
+        for (Definition definition : definitions) {
+            if (definition.expression.match(stepText) != null) {
+                matches.add(definition.method);
+            }
+        }
+        return String.join(" | ", matches);
+    }
+
+    private static String unescape(String value) {
+        StringBuilder out = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                out.append(next == 't' ? '\t' : next == 'n' ? '\n' : next);
+            } else {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+}
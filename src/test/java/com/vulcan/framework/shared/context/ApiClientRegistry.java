@@ -27,15 +27,10 @@ import java.util.function.Supplier;
  *   <li><b>Parallel-safe</b>: no static/global shared client instances</li>
  * </ul>
  *
- * <p>Usage:</p>
+ * <p>This is the storage behind {@link ClientScope#SCENARIO}. Steps should not use it
+ * directly; they go through {@link ApiClients}, which picks the scope declared by the client:</p>
  * <pre>{@code
- * ApiClientRegistry registry = ScenarioContext.getOrCreate(
- *     ScenarioKeys.API_CLIENT_REGISTRY,
- *     ApiClientRegistry.class,
- *     ApiClientRegistry::new
- * );
- *
- * UserApiClient client = registry.get(UserApiClient.class, UserApiClient::new);
+ * UserApiClient client = ApiClients.get(UserApiClient.class, UserApiClient::new);
  * }</pre>
  */
 public class ApiClientRegistry {
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.shared.context;
+
+import com.vulcan.framework.config.ConfigManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * ApiClients is the scoped container for API clients.
+ *
+ * <p>Why this class exists:</p>
+ * <ul>
+ *   <li>Building a client reads configuration and builds a RestAssured config + spec.
+ *       Doing that for every scenario is pure overhead for stateless clients.</li>
+ *   <li>The client declares its own lifetime with {@link ScopedClient}; steps only ask
+ *       for the type and never care where the instance lives.</li>
+ * </ul>
+ *
+ * <p>Lookup cost:</p>
+ * <ul>
+ *   <li>Scope resolution is cached per class ({@link ClassValue}), no reflection after the first call.</li>
+ *   <li>SUITE: lock-free {@link ConcurrentHashMap#get} on the hot path.</li>
+ *   <li>THREAD: a plain map owned by the current thread.</li>
+ *   <li>SCENARIO: delegates to the {@link ApiClientRegistry} stored in {@link ScenarioContext}.</li>
+ * </ul>
+ *
+ * <p>Usage:</p>
+ * <pre>{@code
+ * UserApiClient client = ApiClients.get(UserApiClient.class, UserApiClient::new);
+ * }</pre>
+ */
+public final class ApiClients {
+
+    private static final Logger logger = LogManager.getLogger(ApiClients.class);
+
+    private ApiClients() {
+        // Utility class: prevent instantiation
+    }
+
+    /** Declared scope per client class, resolved once per class. */
+    private static final ClassValue<ClientScope> SCOPES = new ClassValue<>() {
+        @Override
+        protected ClientScope computeValue(Class<?> type) {
+            ScopedClient declared = type.getAnnotation(ScopedClient.class);
+            return declared == null ? ClientScope.SCENARIO : declared.value();
+        }
+    };
+
+    /** Suite-scoped clients (shared by all threads). */
+    private static final ConcurrentHashMap<Class<?>, Object> SUITE_CLIENTS = new ConcurrentHashMap<>();
+
+    /** Thread-scoped clients (survive across scenarios executed by the same thread). */
+    private static final ThreadLocal<ThreadClients> THREAD_CLIENTS =
+            ThreadLocal.withInitial(ThreadClients::new);
+
+    /**
+     * Bumped on every configuration reload. Thread maps created for an older
+     * generation are discarded lazily by their owning thread.
+     */
+    private static volatile int configGeneration;
+
+    /**
+     * Whether the reload listener is registered. Registered on the first shared lookup rather than
+     * in a static initializer: an invalid configuration must not leave this class unloadable.
+     */
+    private static volatile boolean listeningForReloads;
+
+    /** Per-thread client map tagged with the config generation it was built for. */
+    private static final class ThreadClients {
+        private final int generation = configGeneration;
+        private final Map<Class<?>, Object> clients = new HashMap<>();
+    }
+
+    /**
+     * Returns the client for the scope declared on {@code type}, creating it if missing.
+     *
+     * @param type the client class (used as lookup key and for scope resolution)
+     * @param supplier how to create the client if it doesn't exist yet in its scope
+     * @return the client instance for the current suite/thread/scenario
+     */
+    public static <T> T get(Class<T> type, Supplier<T> supplier) {
+        return get(type, scopeOf(type), supplier);
+    }
+
+    /**
+     * Returns the client for an explicit scope, overriding what the class declares.
+     * Useful when a normally shared client must be isolated for one scenario.
+     */
+    public static <T> T get(Class<T> type, ClientScope scope, Supplier<T> supplier) {
+        Objects.requireNonNull(type, "type cannot be null");
+        Objects.requireNonNull(scope, "scope cannot be null");
+        Objects.requireNonNull(supplier, "supplier cannot be null");
+
+        switch (scope) {
+            case SUITE:
+                listenForReloads();
+                return suiteClient(type, supplier);
+            case THREAD:
+                listenForReloads();
+                return threadClient(type, supplier);
+            case SCENARIO:
+            default:
+                return scenarioRegistry().get(type, supplier);
+        }
+    }
+
+    /** @return the scope declared on the client class (SCENARIO when not annotated) */
+    public static ClientScope scopeOf(Class<?> type) {
+        return SCOPES.get(type);
+    }
+
+    /**
+     * Drops the thread-scoped clients of the current thread.
+     * Suite/thread clients are stateless, so this is only needed when a thread is retired.
+     */
+    public static void clearThread() {
+        THREAD_CLIENTS.remove();
+    }
+
+    /** Drops all suite-scoped clients (e.g. after switching configuration profiles). */
+    public static void clearSuite() {
+        SUITE_CLIENTS.clear();
+    }
+
+    /** For debug/visibility. */
+    public static int suiteSize() {
+        return SUITE_CLIENTS.size();
+    }
+
+    private static void listenForReloads() {
+        if (listeningForReloads) {
+            return;
+        }
+        synchronized (ApiClients.class) {
+            if (!listeningForReloads) {
+                // Clients capture baseUrl/timeouts at construction: drop them when the config changes.
+                ConfigManager.getInstance().addReloadListener(snapshot -> {
+                    configGeneration++;
+                    clearSuite();
+                });
+                listeningForReloads = true;
+            }
+        }
+    }
+
+    private static <T> T suiteClient(Class<T> type, Supplier<T> supplier) {
+        Object existing = SUITE_CLIENTS.get(type);
+        if (existing == null) {
+            existing = SUITE_CLIENTS.computeIfAbsent(type, key -> {
+                logger.info("Creating suite-scoped API client {}", key.getSimpleName());
+                return supplier.get();
+            });
+        }
+        return cast(type, existing, ClientScope.SUITE);
+    }
+
+    private static <T> T threadClient(Class<T> type, Supplier<T> supplier) {
+        ThreadClients holder = THREAD_CLIENTS.get();
+        if (holder.generation != configGeneration) {
+            holder = new ThreadClients();
+            THREAD_CLIENTS.set(holder);
+        }
+        Map<Class<?>, Object> clients = holder.clients;
+        Object existing = clients.get(type);
+        if (existing == null) {
+            logger.info("Creating thread-scoped API client {} | thread={}",
+                type.getSimpleName(), Thread.currentThread().getName());
+            T created = supplier.get();
+            clients.put(type, created);
+            return created;
+        }
+        return cast(type, existing, ClientScope.THREAD);
+    }
+
+    private static ApiClientRegistry scenarioRegistry() {
+        return ScenarioContext.getOrCreate(
+            ScenarioKeys.API_CLIENT_REGISTRY,
+            ApiClientRegistry.class,
+            ApiClientRegistry::new
+        );
+    }
+
+    private static <T> T cast(Class<T> type, Object existing, ClientScope scope) {
+        if (!type.isInstance(existing)) {
+            throw new IllegalStateException(
+                "ApiClients " + scope + " entry for " + type.getName() + " is not of the expected type."
+            );
+        }
+        return type.cast(existing);
+    }
+}
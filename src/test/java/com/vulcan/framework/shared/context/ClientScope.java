@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.shared.context;
+
+/**
+ * Lifetime of an API client managed by {@link ApiClients}.
+ *
+ * <ul>
+ *   <li><b>SUITE</b>: one instance for the whole test JVM. Only for clients that are
+ *       stateless and thread-safe (no per-call mutable fields).</li>
+ *   <li><b>THREAD</b>: one instance per worker thread, reused across the scenarios that
+ *       thread executes. For clients that are stateless but not thread-safe.</li>
+ *   <li><b>SCENARIO</b>: one instance per scenario, stored in {@link ApiClientRegistry} and
+ *       discarded in Hooks teardown. For clients that hold scenario state (tokens, cookies).</li>
+ * </ul>
+ */
+public enum ClientScope {
+    SUITE,
+    THREAD,
+    SCENARIO
+}
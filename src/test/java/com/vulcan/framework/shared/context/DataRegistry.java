@@ -11,6 +11,10 @@
 
 package com.vulcan.framework.shared.context;
 
+import com.vulcan.framework.shared.jfr.CleanupEvent;
+import com.vulcan.framework.shared.jfr.CurrentScenario;
+import com.vulcan.framework.shared.metrics.FrameworkMetrics;
+
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Objects;
@@ -95,13 +99,27 @@ public class DataRegistry {
             NamedCleanupAction next = cleanupActions.pop();
 
             logger.info("Cleanup START | name='{}'", next.name);
+            long start = System.nanoTime();
+            CleanupEvent event = new CleanupEvent();
+            event.begin();
+            boolean succeeded = false;
             try {
                 next.action.run();
+                succeeded = true;
                 executed++;
                 logger.info("Cleanup OK    | name='{}'", next.name);
             } catch (Exception e) {
                 failed++;
                 logger.error("Cleanup FAIL  | name='{}' | error={}", next.name, e.getMessage(), e);
+            } finally {
+                event.end();
+                FrameworkMetrics.CLEANUP_ACTIONS.observeNanos(System.nanoTime() - start, succeeded ? "succeeded" : "failed");
+                if (event.shouldCommit()) {
+                    event.scenario = CurrentScenario.get();
+                    event.action = next.name;
+                    event.succeeded = succeeded;
+                    event.commit();
+                }
             }
         }
 
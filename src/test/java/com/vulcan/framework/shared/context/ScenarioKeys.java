@@ -119,6 +119,24 @@ public final class ScenarioKeys {
      */
     public static final String CREATED_USER_ID = "createdUserId";
 
+    /* ===============================
+       UI Performance
+       =============================== */
+
+    /**
+     * Stores the web performance captured per page object in the scenario.
+     *
+     * Type example:
+     * <pre>{@code
+     * Map<String, PageMetrics> (page name -> metrics)
+     * }</pre>
+     *
+     * Used by:
+     * - BasePage (capture after navigation)
+     * - Performance assertion steps (LCP/CLS budgets)
+     */
+    public static final String WEB_PERFORMANCE = "webPerformance";
+
     // API client lifecycle (per scenario)
 public static final String API_CLIENT_REGISTRY = "apiClientRegistry";
 }
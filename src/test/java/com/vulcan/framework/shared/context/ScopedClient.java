@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.shared.context;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the {@link ClientScope} of an API client class.
+ *
+ * <p>Clients without this annotation are treated as {@link ClientScope#SCENARIO},
+ * which is always safe (same behavior as before scoped clients existed).</p>
+ *
+ * <pre>{@code
+ * @ScopedClient(ClientScope.SUITE)
+ * public class HealthApiClient extends BaseApiClient { ... }
+ * }</pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ScopedClient {
+    ClientScope value();
+}
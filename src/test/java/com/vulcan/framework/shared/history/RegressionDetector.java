@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.shared.history;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * RegressionDetector compares the most recent runs of each step with a rolling baseline
+ * (the earlier runs of the history window) and flags statistically significant slowdowns.
+ *
+ * - Test: one-sided Mann-Whitney U (recent durations stochastically greater than baseline),
+ *   normal approximation with tie and continuity corrections. Rank-based, so a few outliers
+ *   (GC pause, slow CI agent) do not dominate the way they would with a t-test.
+ * - Practical significance: the recent median must also be at least minSlowdown slower
+ *   than the baseline median, so tiny but consistent differences are not reported.
+ * - The z-score of the latest run against the baseline is reported for context.
+ * - Only steps that ran in the latest run and have at least minBaselineRuns baseline runs are evaluated.
+ */
+public final class RegressionDetector {
+
+    private final int recentRuns;
+    private final int minBaselineRuns;
+    private final double alpha;
+    private final double minSlowdown;
+
+    /**
+     * @param recentRuns      latest runs compared against the baseline (the rest of the window)
+     * @param minBaselineRuns baseline runs required before a step is evaluated
+     * @param alpha           significance level of the Mann-Whitney test (e.g. 0.01)
+     * @param minSlowdown     minimum relative median slowdown to report (e.g. 0.10 = 10%)
+     */
+    public RegressionDetector(int recentRuns, int minBaselineRuns, double alpha, double minSlowdown) {
+        if (recentRuns <= 0 || minBaselineRuns <= 0) {
+            throw new IllegalArgumentException("recentRuns and minBaselineRuns must be greater than zero");
+        }
+        this.recentRuns = recentRuns;
+        this.minBaselineRuns = minBaselineRuns;
+        this.alpha = alpha;
+        this.minSlowdown = minSlowdown;
+    }
+
+    /** Evaluation of one step. */
+    public static final class Result {
+        private final String step;
+        private final int baselineRuns;
+        private final int baselineSamples;
+        private final int recentSamples;
+        private final double baselineMedianMs;
+        private final double recentMedianMs;
+        private final double pValue;
+        private final Double zScore;
+        private final boolean regressed;
+
+        private Result(String step, int baselineRuns, int baselineSamples, int recentSamples,
+                       double baselineMedianMs, double recentMedianMs, double pValue, Double zScore, boolean regressed) {
+            this.step = step;
+            this.baselineRuns = baselineRuns;
+            this.baselineSamples = baselineSamples;
+            this.recentSamples = recentSamples;
+            this.baselineMedianMs = baselineMedianMs;
+            this.recentMedianMs = recentMedianMs;
+            this.pValue = pValue;
+            this.zScore = zScore;
+            this.regressed = regressed;
+        }
+
+        public String step() {
+            return step;
+        }
+
+        public boolean regressed() {
+            return regressed;
+        }
+
+        /** @return relative median change (0.25 = 25% slower) */
+        public double slowdown() {
+            return baselineMedianMs == 0 ? 0 : (recentMedianMs - baselineMedianMs) / baselineMedianMs;
+        }
+
+        public double pValue() {
+            return pValue;
+        }
+
+        public Map<String, Object> asMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("step", step);
+            map.put("baselineRuns", baselineRuns);
+            map.put("baselineSamples", baselineSamples);
+            map.put("recentSamples", recentSamples);
+            map.put("baselineMedianMs", round(baselineMedianMs));
+            map.put("recentMedianMs", round(recentMedianMs));
+            map.put("slowdown", round(slowdown()));
+            map.put("pValue", pValue);
+            map.put("zScore", zScore == null ? null : round(zScore));
+            map.put("regressed", regressed);
+            return map;
+        }
+    }
+
+    /**
+     * Evaluates every eligible step of the history.
+     *
+     * @return results, regressions first, then by p-value
+     */
+    public List<Result> evaluate(RunHistoryStore.History history) {
+        List<Integer> runIds = history.runIds();
+        List<Result> results = new ArrayList<>();
+        if (runIds.size() <= recentRuns) {
+            return results;
+        }
+        int latestRun = runIds.get(runIds.size() - 1);
+        int firstRecentRun = runIds.get(runIds.size() - recentRuns);
+
+        for (Map.Entry<String, List<RunHistoryStore.Sample>> step : history.samplesByStep().entrySet()) {
+            List<Double> baseline = new ArrayList<>();
+            List<Double> recent = new ArrayList<>();
+            List<Double> latest = new ArrayList<>();
+            Set<Integer> baselineRunIds = new HashSet<>();
+            for (RunHistoryStore.Sample sample : step.getValue()) {
+                double ms = sample.micros() / 1000d;
+                if (sample.runId() >= firstRecentRun) {
+                    recent.add(ms);
+                    if (sample.runId() == latestRun) {
+                        latest.add(ms);
+                    }
+                } else {
+                    baseline.add(ms);
+                    baselineRunIds.add(sample.runId());
+                }
+            }
+            if (latest.isEmpty() || baselineRunIds.size() < minBaselineRuns) {
+                continue;
+            }
+
+            double baselineMedian = median(baseline);
+            double recentMedian = median(recent);
+            double p = mannWhitneyGreater(recent, baseline);
+            boolean slower = baselineMedian > 0 && (recentMedian - baselineMedian) / baselineMedian >= minSlowdown;
+            results.add(new Result(step.getKey(), baselineRunIds.size(), baseline.size(), recent.size(),
+                baselineMedian, recentMedian, p, zScore(mean(latest), baseline), p < alpha && slower));
+        }
+
+        results.sort(Comparator.comparing((Result r) -> !r.regressed).thenComparingDouble(r -> r.pValue));
+        return results;
+    }
+
+    /**
+     * One-sided Mann-Whitney U test.
+     *
+     * @return p-value of "x tends to be greater than y" (1.0 when every value is tied)
+     */
+    static double mannWhitneyGreater(List<Double> x, List<Double> y) {
+        int n1 = x.size();
+        int n2 = y.size();
+        int n = n1 + n2;
+        double[][] all = new double[n][2]; // value, 1 = from x
+        for (int i = 0; i < n1; i++) {
+            all[i] = new double[] {x.get(i), 1};
+        }
+        for (int i = 0; i < n2; i++) {
+            all[n1 + i] = new double[] {y.get(i), 0};
+        }
+        Arrays.sort(all, Comparator.comparingDouble(v -> v[0]));
+
+        double rankSumX = 0;
+        double tieTerm = 0;
+        for (int i = 0; i < n; ) {
+            int j = i;
+            while (j + 1 < n && all[j + 1][0] == all[i][0]) {
+                j++;
+            }
+            double averageRank = (i + j) / 2d + 1;
+            int ties = j - i + 1;
+            tieTerm += (double) ties * ties * ties - ties;
+            for (int k = i; k <= j; k++) {
+                if (all[k][1] == 1) {
+                    rankSumX += averageRank;
+                }
+            }
+            i = j + 1;
+        }
+
+        double u = rankSumX - n1 * (n1 + 1) / 2d;
+        double mean = n1 * (double) n2 / 2d;
+        double variance = n1 * (double) n2 / 12d * ((n + 1) - tieTerm / ((double) n * (n - 1)));
+        if (variance <= 0) {
+            return 1.0;
+        }
+        double z = (u - mean - 0.5) / Math.sqrt(variance);
+        return 1 - normalCdf(z);
+    }
+
+    private static Double zScore(double value, List<Double> baseline) {
+        double mean = mean(baseline);
+        double sumSquares = 0;
+        for (double v : baseline) {
+            sumSquares += (v - mean) * (v - mean);
+        }
+        double sd = baseline.size() > 1 ? Math.sqrt(sumSquares / (baseline.size() - 1)) : 0;
+        return sd == 0 ? null : (value - mean) / sd;
+    }
+
+    private static double mean(List<Double> values) {
+        double sum = 0;
+        for (double v : values) {
+            sum += v;
+        }
+        return sum / values.size();
+    }
+
+    private static double median(List<Double> values) {
+        double[] sorted = values.stream().mapToDouble(Double::doubleValue).sorted().toArray();
+        int mid = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[mid] : (sorted[mid - 1] + sorted[mid]) / 2;
+    }
+
+    /** Standard normal CDF (erf approximation, Abramowitz and Stegun 7.1.26, error below 1.5e-7). */
+    private static double normalCdf(double z) {
+        double x = Math.abs(z) / Math.sqrt(2);
+        double t = 1 / (1 + 0.3275911 * x);
+        double erf = 1 - t * (0.254829592 + t * (-0.284496736 + t * (1.421413741
+            + t * (-1.453152027 + t * 1.061405429)))) * Math.exp(-x * x);
+        return z >= 0 ? (1 + erf) / 2 : (1 - erf) / 2;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000d;
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.shared.history;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RunHistoryStore keeps step durations of past runs in an append-only, file-based store.
+ *
+ * Layout (one directory per suite):
+ * - steps.idx:   "&lt;stepId&gt;\t&lt;step key&gt;" - dictionary of step keys (scenario + step), appended as new steps appear
+ * - samples.dat: fixed 12-byte records (int runId, int stepId, int micros)
+ * - runs.idx:    "&lt;runId&gt;\t&lt;epoch millis&gt;\t&lt;end offset in samples.dat&gt;" - written last, so it is the
+ *                commit marker of a run. Offsets let readers seek straight to the runs they need, and let the
+ *                next append drop samples of a run that never committed (crashed JVM).
+ *
+ * Appends take a file lock, so several test JVMs (forks, suites) can share one store.
+ */
+public final class RunHistoryStore {
+
+    private static final String STEPS = "steps.idx";
+    private static final String SAMPLES = "samples.dat";
+    private static final String RUNS = "runs.idx";
+    private static final int RECORD_BYTES = 12;
+
+    private final Path dir;
+
+    public RunHistoryStore(Path dir) {
+        this.dir = dir;
+    }
+
+    /** One duration of one step in one run. */
+    public static final class Sample {
+        private final int runId;
+        private final long micros;
+
+        Sample(int runId, long micros) {
+            this.runId = runId;
+            this.micros = micros;
+        }
+
+        public int runId() {
+            return runId;
+        }
+
+        public long micros() {
+            return micros;
+        }
+    }
+
+    /** The last runs of the store, grouped by step key. */
+    public static final class History {
+        private final List<Integer> runIds;
+        private final Map<String, List<Sample>> samplesByStep;
+
+        History(List<Integer> runIds, Map<String, List<Sample>> samplesByStep) {
+            this.runIds = runIds;
+            this.samplesByStep = samplesByStep;
+        }
+
+        /** @return run ids in ascending (chronological) order */
+        public List<Integer> runIds() {
+            return runIds;
+        }
+
+        public Map<String, List<Sample>> samplesByStep() {
+            return samplesByStep;
+        }
+    }
+
+    /**
+     * Appends one run.
+     *
+     * @param timestamp      run end (epoch millis)
+     * @param microsByStep   step key -> durations in microseconds (a step may run several times per run)
+     * @return the id of the stored run
+     */
+    public int append(long timestamp, Map<String, List<Long>> microsByStep) throws IOException {
+        Files.createDirectories(dir);
+        try (FileChannel lockChannel = FileChannel.open(dir.resolve(".lock"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock lock = lockChannel.lock()) {
+
+            Map<String, Integer> stepIds = readStepIds();
+            List<long[]> committed = committedRuns();
+            int runId = committed.isEmpty() ? 1 : (int) committed.get(committed.size() - 1)[0] + 1;
+            long start = committed.isEmpty() ? 0 : committed.get(committed.size() - 1)[2];
+            discardUncommitted(start);
+
+            try (BufferedWriter steps = Files.newBufferedWriter(dir.resolve(STEPS), StandardCharsets.UTF_8,
+                     StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                 DataOutputStream samples = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(
+                     dir.resolve(SAMPLES), StandardOpenOption.CREATE, StandardOpenOption.APPEND)))) {
+
+                for (Map.Entry<String, List<Long>> step : microsByStep.entrySet()) {
+                    String key = sanitize(step.getKey());
+                    Integer stepId = stepIds.get(key);
+                    if (stepId == null) {
+                        stepId = stepIds.size();
+                        stepIds.put(key, stepId);
+                        steps.write(stepId + "\t" + key);
+                        steps.newLine();
+                    }
+                    for (long micros : step.getValue()) {
+                        samples.writeInt(runId);
+                        samples.writeInt(stepId);
+                        samples.writeInt((int) Math.min(Integer.MAX_VALUE, micros));
+                    }
+                }
+            }
+
+            // Commit marker: only now does the run become visible to readers
+            long end = Files.size(dir.resolve(SAMPLES));
+            Files.write(dir.resolve(RUNS),
+                List.of(runId + "\t" + timestamp + "\t" + end),
+                StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            return runId;
+        }
+    }
+
+    /**
+     * Reads the last {@code runs} committed runs.
+     *
+     * @param runs number of most recent runs to load
+     */
+    public History load(int runs) throws IOException {
+        List<long[]> committed = committedRuns();
+        int first = Math.max(0, committed.size() - runs);
+        if (first >= committed.size()) {
+            return new History(Collections.emptyList(), Collections.emptyMap());
+        }
+        List<Integer> runIds = new ArrayList<>();
+        for (long[] run : committed.subList(first, committed.size())) {
+            runIds.add((int) run[0]);
+        }
+        long startOffset = first == 0 ? 0 : committed.get(first - 1)[2];
+        long records = (committed.get(committed.size() - 1)[2] - startOffset) / RECORD_BYTES;
+
+        Map<Integer, String> keys = new HashMap<>();
+        readStepIds().forEach((key, id) -> keys.put(id, key));
+
+        Map<String, List<Sample>> samplesByStep = new LinkedHashMap<>();
+        Path samplesFile = dir.resolve(SAMPLES);
+        if (Files.exists(samplesFile)) {
+            try (FileChannel channel = FileChannel.open(samplesFile, StandardOpenOption.READ)) {
+                channel.position(startOffset);
+                DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+                for (long i = 0; i < records; i++) {
+                    int runId = in.readInt();
+                    int stepId = in.readInt();
+                    int micros = in.readInt();
+                    String key = keys.get(stepId);
+                    if (key != null) {
+                        samplesByStep.computeIfAbsent(key, k -> new ArrayList<>()).add(new Sample(runId, micros));
+                    }
+                }
+            }
+        }
+        return new History(new ArrayList<>(runIds), samplesByStep);
+    }
+
+    private Map<String, Integer> readStepIds() throws IOException {
+        Map<String, Integer> ids = new HashMap<>();
+        Path file = dir.resolve(STEPS);
+        if (Files.exists(file)) {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                int tab = line.indexOf('\t');
+                if (tab > 0) {
+                    ids.put(line.substring(tab + 1), Integer.parseInt(line.substring(0, tab)));
+                }
+            }
+        }
+        return ids;
+    }
+
+    /** @return committed runs as {runId, timestamp, end offset}, oldest first */
+    private List<long[]> committedRuns() throws IOException {
+        List<long[]> runs = new ArrayList<>();
+        Path file = dir.resolve(RUNS);
+        if (Files.exists(file)) {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                String[] fields = line.split("\t");
+                if (fields.length == 3) {
+                    runs.add(new long[] {
+                        Long.parseLong(fields[0]), Long.parseLong(fields[1]), Long.parseLong(fields[2])
+                    });
+                }
+            }
+        }
+        return runs;
+    }
+
+    /** Truncates samples.dat to the last committed run (drops records of a run that crashed mid-append). */
+    private void discardUncommitted(long committedEnd) throws IOException {
+        Path file = dir.resolve(SAMPLES);
+        if (Files.exists(file) && Files.size(file) > committedEnd) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(committedEnd);
+            }
+        }
+    }
+
+    private static String sanitize(String key) {
+        return key.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.shared.history;
+
+import com.vulcan.framework.config.ConfigManager;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * ScenarioOutcomeStore keeps the recent pass/fail outcomes of every scenario and its quarantine state.
+ *
+ * File format (one line per scenario, rewritten on every update):
+ *   "&lt;path:line&gt;\t&lt;outcomes&gt;\t&lt;Q or -&gt;\t&lt;feature&gt;\t&lt;scenario&gt;"
+ * where outcomes is the last runs oldest first, "P" (passed) or "F" (failed), e.g. "PPFPF".
+ *
+ * Flaky detection:
+ * - A scenario is quarantined when its outcomes flip (P to F or F to P) at least minFlips times
+ *   within the window. A failure fixed by a rerun counts as one flip.
+ * - A quarantined scenario is released after releaseAfter consecutive passes (at most the window);
+ *   its older outcomes are dropped then.
+ *
+ * Updates take a file lock, so several test JVMs (suites, distributed workers) can share one store.
+ */
+public final class ScenarioOutcomeStore {
+
+    /** Outcome of one scenario in the run being recorded. */
+    public static final class Outcome {
+        private final String key;
+        private final String feature;
+        private final String scenario;
+        private final boolean passed;
+
+        /**
+         * @param key      "path:line" of the scenario (path relative to the project)
+         * @param feature  feature name
+         * @param scenario scenario name
+         */
+        public Outcome(String key, String feature, String scenario, boolean passed) {
+            this.key = key;
+            this.feature = feature;
+            this.scenario = scenario;
+            this.passed = passed;
+        }
+    }
+
+    /** Stored state of one scenario. */
+    public static final class Entry {
+        private final String key;
+        private final String outcomes;
+        private final boolean quarantined;
+        private final String feature;
+        private final String scenario;
+
+        Entry(String key, String outcomes, boolean quarantined, String feature, String scenario) {
+            this.key = key;
+            this.outcomes = outcomes;
+            this.quarantined = quarantined;
+            this.feature = feature;
+            this.scenario = scenario;
+        }
+
+        public String key() {
+            return key;
+        }
+
+        /** @return recent outcomes, oldest first ("P"/"F") */
+        public String outcomes() {
+            return outcomes;
+        }
+
+        public boolean quarantined() {
+            return quarantined;
+        }
+
+        public String feature() {
+            return feature;
+        }
+
+        public String scenario() {
+            return scenario;
+        }
+
+        /** @return true when the latest recorded run of the scenario failed */
+        public boolean lastFailed() {
+            return !outcomes.isEmpty() && outcomes.charAt(outcomes.length() - 1) == 'F';
+        }
+    }
+
+    /** Quarantine changes made by one update. */
+    public static final class Changes {
+        private final List<Entry> quarantined = new ArrayList<>();
+        private final List<Entry> released = new ArrayList<>();
+
+        public List<Entry> quarantined() {
+            return quarantined;
+        }
+
+        public List<Entry> released() {
+            return released;
+        }
+
+        public boolean isEmpty() {
+            return quarantined.isEmpty() && released.isEmpty();
+        }
+    }
+
+    private final Path file;
+    private final int window;
+    private final int minFlips;
+    private final int releaseAfter;
+
+    /**
+     * @param window       outcomes kept per scenario
+     * @param minFlips     pass/fail flips within the window that quarantine a scenario (0 = never)
+     * @param releaseAfter consecutive passes that release a quarantined scenario
+     */
+    public ScenarioOutcomeStore(Path file, int window, int minFlips, int releaseAfter) {
+        this.file = file;
+        this.window = Math.max(2, window);
+        this.minFlips = minFlips;
+        this.releaseAfter = Math.min(this.window, Math.max(1, releaseAfter));
+    }
+
+    /** @return the store configured by quarantine.file / window / minFlips / releaseAfter */
+    public static ScenarioOutcomeStore configured() {
+        ConfigManager config = ConfigManager.getInstance();
+        String file = config.get("quarantine.file", "").trim();
+        return new ScenarioOutcomeStore(
+            Paths.get(file.isEmpty() ? ".vulcan/history/scenario-outcomes.tsv" : file),
+            config.intValue("quarantine.window", 10),
+            config.intValue("quarantine.minFlips", 3),
+            config.intValue("quarantine.releaseAfter", 10));
+    }
+
+    /**
+     * @return the store key of a scenario: "path:line", path relative to the working directory
+     *         (the project) for file URIs, as in the pickle index
+     */
+    public static String key(URI uri, int line) {
+        String path = uri.toString();
+        if ("file".equals(uri.getScheme())) {
+            URI relative = Paths.get("").toAbsolutePath().toUri().relativize(uri);
+            path = relative.isAbsolute() ? Paths.get(uri).toString() : relative.getPath();
+        }
+        return path + ":" + line;
+    }
+
+    /** @return every stored scenario keyed by "path:line" (empty when the file does not exist yet) */
+    public Map<String, Entry> load() throws IOException {
+        Map<String, Entry> entries = new TreeMap<>();
+        if (!Files.exists(file)) {
+            return entries;
+        }
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            String[] fields = line.split("\t", -1);
+            if (fields.length == 5) {
+                entries.put(fields[0], new Entry(fields[0], fields[1], "Q".equals(fields[2]), fields[3], fields[4]));
+            }
+        }
+        return entries;
+    }
+
+    /** Appends the outcomes of a run and re-evaluates the quarantine state of those scenarios. */
+    public Changes record(List<Outcome> run) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        try (FileChannel lockChannel = FileChannel.open(parent.resolve(file.getFileName() + ".lock"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock lock = lockChannel.lock()) {
+
+            Map<String, Entry> entries = load();
+            Changes changes = new Changes();
+            for (Outcome outcome : run) {
+                Entry previous = entries.get(outcome.key);
+                String outcomes = (previous == null ? "" : previous.outcomes) + (outcome.passed ? 'P' : 'F');
+                if (outcomes.length() > window) {
+                    outcomes = outcomes.substring(outcomes.length() - window);
+                }
+                boolean wasQuarantined = previous != null && previous.quarantined;
+                boolean quarantined = wasQuarantined
+                    ? !outcomes.endsWith("P".repeat(releaseAfter))
+                    : minFlips > 0 && flips(outcomes) >= minFlips;
+
+                if (wasQuarantined && !quarantined) {
+                    // Start over from the passing streak, or the old flips would quarantine it again
+                    outcomes = outcomes.substring(outcomes.length() - releaseAfter);
+                }
+
+                Entry entry = new Entry(outcome.key, outcomes, quarantined,
+                    sanitize(outcome.feature), sanitize(outcome.scenario));
+                entries.put(outcome.key, entry);
+                if (quarantined && !wasQuarantined) {
+                    changes.quarantined.add(entry);
+                } else if (!quarantined && wasQuarantined) {
+                    changes.released.add(entry);
+                }
+            }
+            write(entries);
+            return changes;
+        }
+    }
+
+    private void write(Map<String, Entry> entries) throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            for (Entry entry : entries.values()) {
+                out.write(entry.key + "\t" + entry.outcomes + "\t" + (entry.quarantined ? "Q" : "-")
+                    + "\t" + entry.feature + "\t" + entry.scenario);
+                out.newLine();
+            }
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static int flips(String outcomes) {
+        int flips = 0;
+        for (int i = 1; i < outcomes.length(); i++) {
+            if (outcomes.charAt(i) != outcomes.charAt(i - 1)) {
+                flips++;
+            }
+        }
+        return flips;
+    }
+
+    private static String sanitize(String value) {
+        return value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+}
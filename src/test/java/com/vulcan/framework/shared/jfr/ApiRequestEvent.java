@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.shared.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One HTTP request sent by a BaseApiClient.
+ */
+@Name("com.vulcan.ApiRequest")
+@Label("API Request")
+@Category({"Vulcan", "API"})
+@Description("One HTTP request sent by a BaseApiClient.")
+public final class ApiRequestEvent extends Event {
+
+    @Label("Scenario")
+    public String scenario;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Response Size")
+    @Description("Content-Length of the response, -1 when the header is absent (chunked responses)")
+    @DataAmount
+    public long bytes;
+}
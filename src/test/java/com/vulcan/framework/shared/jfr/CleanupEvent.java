@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.shared.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One DataRegistry cleanup action run during teardown.
+ */
+@Name("com.vulcan.Cleanup")
+@Label("Cleanup Action")
+@Category({"Vulcan", "Teardown"})
+@Description("One DataRegistry cleanup action run during teardown.")
+public final class CleanupEvent extends Event {
+
+    @Label("Scenario")
+    public String scenario;
+
+    @Label("Action")
+    public String action;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.shared.jfr;
+
+/**
+ * CurrentScenario holds the name of the scenario running on the current thread,
+ * so framework JFR events can be correlated with scenarios in JMC.
+ *
+ * The framework events in this package are recorded with the usual JFR pattern:
+ * begin() before the operation, end() after it, and fields filled + commit() only when
+ * shouldCommit() is true, so nothing is computed while no recording is running.
+ *
+ * Set by Hooks before each scenario and cleared after it. Work handed to other
+ * threads (e.g. the async browser quit) can carry the name with {@link #run(String, Runnable)}.
+ */
+public final class CurrentScenario {
+
+    private static final ThreadLocal<String> NAME = new ThreadLocal<>();
+
+    private CurrentScenario() {
+        // Utility class: prevent instantiation
+    }
+
+    public static void set(String scenarioName) {
+        NAME.set(scenarioName);
+    }
+
+    /** @return the current scenario name, or "" outside a scenario */
+    public static String get() {
+        String name = NAME.get();
+        return name == null ? "" : name;
+    }
+
+    public static void clear() {
+        NAME.remove();
+    }
+
+    /** Runs {@code action} on this thread as part of {@code scenarioName}, restoring the previous name. */
+    public static void run(String scenarioName, Runnable action) {
+        String previous = NAME.get();
+        NAME.set(scenarioName);
+        try {
+            action.run();
+        } finally {
+            if (previous == null) {
+                NAME.remove();
+            } else {
+                NAME.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.shared.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A WebDriver session created, recycled or quit by DriverFactory.
+ */
+@Name("com.vulcan.Driver")
+@Label("WebDriver Lifecycle")
+@Category({"Vulcan", "UI"})
+@Description("A WebDriver session created, recycled or quit by DriverFactory.")
+public final class DriverEvent extends Event {
+
+    @Label("Scenario")
+    public String scenario;
+
+    @Label("Operation")
+    @Description("create, recycle or quit")
+    public String operation;
+
+    @Label("Browser")
+    public String browser;
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.shared.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * One ElementActions call (wait + driver command).
+ */
+@Name("com.vulcan.UiAction")
+@Label("UI Action")
+@Category({"Vulcan", "UI"})
+@Description("One ElementActions call (wait + driver command).")
+public final class UiActionEvent extends Event {
+
+    @Label("Scenario")
+    public String scenario;
+
+    @Label("Page")
+    public String page;
+
+    @Label("Element")
+    public String element;
+
+    @Label("Action")
+    public String action;
+
+    @Label("Wait Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long waitTime;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.shared.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * One WaitUtils wait with its condition and outcome.
+ */
+@Name("com.vulcan.Wait")
+@Label("Explicit Wait")
+@Category({"Vulcan", "UI"})
+@Description("One WaitUtils wait with its condition and outcome.")
+public final class WaitEvent extends Event {
+
+    @Label("Scenario")
+    public String scenario;
+
+    @Label("Condition")
+    public String condition;
+
+    @Label("Outcome")
+    @Description("satisfied, timeout or error")
+    public String outcome;
+
+    @Label("Timeout")
+    @Timespan(Timespan.MILLISECONDS)
+    public long timeout;
+}
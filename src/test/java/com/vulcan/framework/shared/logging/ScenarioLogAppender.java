@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.shared.logging;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Core;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.AppenderControl;
+import org.apache.logging.log4j.core.config.AppenderRef;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginConfiguration;
+import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+
+/**
+ * Log4j2 appender that keeps the logs of the running scenario in memory instead of writing them.
+ *
+ * <ul>
+ *   <li>Inside a scenario ({@link ScenarioLogs#begin()} on the scenario thread) events are recorded
+ *       in that thread's {@link ScenarioLogBuffer}; events at passThroughLevel or more severe (default WARN)
+ *       are also written to the referenced appenders right away.</li>
+ *   <li>Outside a scenario, or on other threads (async teardown, plugins), events go straight to the
+ *       referenced appenders.</li>
+ *   <li>{@link ScenarioLogs#finish(boolean)} discards the buffer of a passed scenario, and replays it to
+ *       the referenced appenders (plus an Allure attachment, see Hooks) when the scenario failed.</li>
+ * </ul>
+ *
+ * Configured in log4j2.xml:
+ * <pre>
+ * &lt;ScenarioLog name="ScenarioLog" capacity="2000" maxMessageChars="2000" passThroughLevel="WARN"&gt;
+ *     &lt;PatternLayout pattern="..."/&gt;
+ *     &lt;AppenderRef ref="Console"/&gt;
+ * &lt;/ScenarioLog&gt;
+ * </pre>
+ */
+@Plugin(name = "ScenarioLog", category = Core.CATEGORY_NAME, elementType = Appender.ELEMENT_TYPE, printObject = true)
+public final class ScenarioLogAppender extends AbstractAppender {
+
+    private final Configuration configuration;
+    private final AppenderRef[] refs;
+    private final List<AppenderControl> targets = new ArrayList<>();
+    private final Level passThroughLevel;
+    private final int capacity;
+    private final int maxMessageChars;
+
+    private ScenarioLogAppender(String name, Filter filter, Layout<? extends Serializable> layout,
+                                Configuration configuration, AppenderRef[] refs, Level passThroughLevel,
+                                int capacity, int maxMessageChars) {
+        super(name, filter, layout, true, Property.EMPTY_ARRAY);
+        this.configuration = configuration;
+        this.refs = refs;
+        this.passThroughLevel = passThroughLevel;
+        this.capacity = capacity;
+        this.maxMessageChars = maxMessageChars;
+    }
+
+    @PluginFactory
+    public static ScenarioLogAppender createAppender(
+            @PluginAttribute("name") String name,
+            @PluginAttribute(value = "capacity", defaultInt = 2000) int capacity,
+            @PluginAttribute(value = "maxMessageChars", defaultInt = 2000) int maxMessageChars,
+            @PluginAttribute(value = "passThroughLevel", defaultString = "WARN") String passThroughLevel,
+            @PluginElement("Layout") Layout<? extends Serializable> layout,
+            @PluginElement("Filter") Filter filter,
+            @PluginElement("AppenderRef") AppenderRef[] refs,
+            @PluginConfiguration Configuration configuration) {
+        if (name == null) {
+            LOGGER.error("No name provided for ScenarioLogAppender");
+            return null;
+        }
+        if (refs == null || refs.length == 0) {
+            LOGGER.error("ScenarioLogAppender '{}' needs at least one AppenderRef", name);
+            return null;
+        }
+        if (capacity <= 0 || maxMessageChars <= 0) {
+            LOGGER.error("ScenarioLogAppender '{}': capacity and maxMessageChars must be greater than zero", name);
+            return null;
+        }
+        return new ScenarioLogAppender(name, filter,
+            layout != null ? layout : PatternLayout.createDefaultLayout(configuration),
+            configuration, refs, Level.toLevel(passThroughLevel, Level.WARN), capacity, maxMessageChars);
+    }
+
+    @Override
+    public void start() {
+        for (AppenderRef ref : refs) {
+            Appender appender = configuration.getAppender(ref.getRef());
+            if (appender == null) {
+                LOGGER.error("ScenarioLogAppender '{}': no appender named '{}'", getName(), ref.getRef());
+                continue;
+            }
+            targets.add(new AppenderControl(appender, ref.getLevel(), ref.getFilter()));
+        }
+        ScenarioLogs.register(this);
+        super.start();
+    }
+
+    @Override
+    public boolean stop(long timeout, TimeUnit timeUnit) {
+        ScenarioLogs.unregister(this);
+        return super.stop(timeout, timeUnit);
+    }
+
+    @Override
+    public void append(LogEvent event) {
+        ScenarioLogBuffer buffer = ScenarioLogs.activeBuffer();
+        if (buffer != null) {
+            buffer.record(event);
+        }
+        if (buffer == null || event.getLevel().isMoreSpecificThan(passThroughLevel)) {
+            forward(event);
+        }
+    }
+
+    /** Writes one event to the referenced appenders (Console by default). */
+    void forward(LogEvent event) {
+        for (AppenderControl target : targets) {
+            target.callAppender(event);
+        }
+    }
+
+    Level passThroughLevel() {
+        return passThroughLevel;
+    }
+
+    ScenarioLogBuffer newBuffer() {
+        return new ScenarioLogBuffer(capacity, maxMessageChars);
+    }
+
+    /** @return the event formatted with this appender's layout (for the Allure attachment) */
+    byte[] format(LogEvent event) {
+        return getLayout().toByteArray(event);
+    }
+}
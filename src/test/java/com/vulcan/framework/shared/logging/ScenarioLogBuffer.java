@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.shared.logging;
+
+import java.util.function.Consumer;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.util.StringBuilderFormattable;
+
+/**
+ * Fixed-capacity ring of log events owned by one thread (the scenario thread).
+ *
+ * - Slots are preallocated and reused across scenarios: recording an event copies its timestamp,
+ *   level, logger name and throwable references and formats the message into the slot's own
+ *   StringBuilder (garbage-free for Log4j messages that support it), so nothing is allocated per event.
+ * - Messages longer than maxMessageChars are truncated; when the ring is full the oldest events
+ *   are overwritten and counted as dropped.
+ * - Not thread-safe by design: only the owning thread records and drains it.
+ */
+final class ScenarioLogBuffer {
+
+    private static final String TRUNCATED = " ...[truncated]";
+
+    private final long[] millis;
+    private final Level[] levels;
+    private final String[] loggers;
+    private final StringBuilder[] messages;
+    private final Throwable[] thrown;
+    private final int maxMessageChars;
+
+    private int next;
+    private int size;
+    private long dropped;
+    private boolean active;
+
+    ScenarioLogBuffer(int capacity, int maxMessageChars) {
+        this.millis = new long[capacity];
+        this.levels = new Level[capacity];
+        this.loggers = new String[capacity];
+        this.messages = new StringBuilder[capacity];
+        this.thrown = new Throwable[capacity];
+        this.maxMessageChars = maxMessageChars;
+        for (int i = 0; i < capacity; i++) {
+            messages[i] = new StringBuilder(128);
+        }
+    }
+
+    boolean isActive() {
+        return active;
+    }
+
+    /** Starts a new scenario: forgets whatever the previous one recorded. */
+    void begin() {
+        clear();
+        active = true;
+    }
+
+    void record(LogEvent event) {
+        int slot = next;
+        if (size == millis.length) {
+            dropped++;
+        } else {
+            size++;
+        }
+        next = (next + 1) % millis.length;
+
+        millis[slot] = event.getTimeMillis();
+        levels[slot] = event.getLevel();
+        loggers[slot] = event.getLoggerName();
+        thrown[slot] = event.getThrown();
+
+        StringBuilder text = messages[slot];
+        text.setLength(0);
+        Message message = event.getMessage();
+        if (message instanceof StringBuilderFormattable) {
+            ((StringBuilderFormattable) message).formatTo(text);
+        } else {
+            text.append(message.getFormattedMessage());
+        }
+        if (text.length() > maxMessageChars) {
+            text.setLength(maxMessageChars);
+            text.append(TRUNCATED);
+        }
+        if (text.capacity() > 4 * (maxMessageChars + TRUNCATED.length())) {
+            // One oversized message must not pin a large array in this slot forever
+            messages[slot] = new StringBuilder(text);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    long dropped() {
+        return dropped;
+    }
+
+    /**
+     * Replays the buffered events, oldest first, as regular log events.
+     * Only called when a scenario failed, so allocating here is fine.
+     */
+    void drainTo(Consumer<LogEvent> sink) {
+        int first = (next - size + millis.length) % millis.length;
+        for (int i = 0; i < size; i++) {
+            int slot = (first + i) % millis.length;
+            sink.accept(Log4jLogEvent.newBuilder()
+                .setTimeMillis(millis[slot])
+                .setLevel(levels[slot])
+                .setLoggerName(loggers[slot])
+                .setMessage(new SimpleMessage(messages[slot].toString()))
+                .setThrown(thrown[slot])
+                .build());
+        }
+        clear();
+    }
+
+    /** Ends the scenario without replaying anything. */
+    void clear() {
+        for (int i = 0; i < thrown.length; i++) {
+            thrown[i] = null;
+        }
+        next = 0;
+        size = 0;
+        dropped = 0;
+        active = false;
+    }
+}
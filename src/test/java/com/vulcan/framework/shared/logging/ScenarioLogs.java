@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.shared.logging;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ScenarioLogs starts and ends the in-memory log of the scenario running on the current thread
+ * (see {@link ScenarioLogAppender}).
+ *
+ * Called by Hooks on the scenario thread: begin() before the scenario, finish() as the very last
+ * teardown step. Both are no-ops when log4j2.xml does not use the ScenarioLog appender.
+ */
+public final class ScenarioLogs {
+
+    private static final ThreadLocal<ScenarioLogBuffer> BUFFERS = new ThreadLocal<>();
+    private static volatile ScenarioLogAppender appender;
+
+    private ScenarioLogs() {
+        // Utility class: prevent instantiation
+    }
+
+    static void register(ScenarioLogAppender started) {
+        appender = started;
+    }
+
+    static void unregister(ScenarioLogAppender stopped) {
+        if (appender == stopped) {
+            appender = null;
+        }
+    }
+
+    /** @return the buffer of the scenario running on this thread, or null outside a scenario */
+    static ScenarioLogBuffer activeBuffer() {
+        ScenarioLogBuffer buffer = BUFFERS.get();
+        return buffer != null && buffer.isActive() ? buffer : null;
+    }
+
+    /** Starts buffering this thread's logs. The buffer is reused by the thread's next scenarios. */
+    public static void begin() {
+        ScenarioLogAppender current = appender;
+        if (current == null) {
+            return;
+        }
+        ScenarioLogBuffer buffer = BUFFERS.get();
+        if (buffer == null) {
+            buffer = current.newBuffer();
+            BUFFERS.set(buffer);
+        }
+        buffer.begin();
+    }
+
+    /**
+     * Ends buffering for this thread's scenario.
+     *
+     * @param failed true when the scenario failed: the buffered events are written to the console
+     *               appenders (in their original order, with their original timestamps)
+     * @return the buffered log formatted as text when the scenario failed, otherwise null
+     */
+    public static byte[] finish(boolean failed) {
+        ScenarioLogBuffer buffer = activeBuffer();
+        ScenarioLogAppender current = appender;
+        if (buffer == null) {
+            return null;
+        }
+        if (!failed || current == null) {
+            buffer.clear();
+            return null;
+        }
+
+        ByteArrayOutputStream text = new ByteArrayOutputStream();
+        if (buffer.dropped() > 0) {
+            byte[] note = ("... " + buffer.dropped() + " earlier line(s) dropped (ScenarioLog capacity)\n")
+                .getBytes(StandardCharsets.UTF_8);
+            text.write(note, 0, note.length);
+        }
+        buffer.drainTo(event -> {
+            // Events at passThroughLevel or above were already printed while the scenario ran
+            if (!event.getLevel().isMoreSpecificThan(current.passThroughLevel())) {
+                current.forward(event);
+            }
+            byte[] line = current.format(event);
+            text.write(line, 0, line.length);
+        });
+        return text.toByteArray();
+    }
+}
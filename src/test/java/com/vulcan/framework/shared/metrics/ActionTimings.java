@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.shared.metrics;
+
+import com.vulcan.framework.config.ConfigManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * ActionTimings measures UI actions per page, element and action, splitting
+ * the time spent WAITING (WaitUtils) from the time spent in the DRIVER COMMAND.
+ *
+ * Design:
+ * - Each thread records into its own map of histograms: no locks, no shared counters.
+ * - Thread maps are registered once, and merged only when a report is requested
+ *   (suite end, see ActionTimingsPlugin).
+ * - Values are recorded in microseconds; reports use milliseconds.
+ *
+ * Disable with ui.actionTimings.enabled=false.
+ */
+public final class ActionTimings {
+
+    /** Wait + command histograms of one page/element/action. */
+    private static final class Timing {
+        final LatencyHistogram wait = new LatencyHistogram();
+        final LatencyHistogram command = new LatencyHistogram();
+    }
+
+    private static final Queue<Map<String, Timing>> ALL_THREADS = new ConcurrentLinkedQueue<>();
+
+    private static final ThreadLocal<Map<String, Timing>> THREAD_TIMINGS = ThreadLocal.withInitial(() -> {
+        Map<String, Timing> timings = new HashMap<>();
+        ALL_THREADS.add(timings);
+        return timings;
+    });
+
+    private static volatile Boolean enabled;
+
+    private ActionTimings() {
+        // Utility class: prevent instantiation
+    }
+
+    /** @return true when actions should be timed (read once per JVM) */
+    public static boolean isEnabled() {
+        Boolean current = enabled;
+        if (current == null) {
+            current = ConfigManager.getInstance().booleanValue("ui.actionTimings.enabled", true);
+            enabled = current;
+        }
+        return current;
+    }
+
+    /**
+     * Records one action on the calling thread.
+     *
+     * @param page    page object name (e.g. "LoginPage")
+     * @param element element name (e.g. "loginButton")
+     * @param action  action name (e.g. "click")
+     * @param waitNanos   time spent waiting for the element
+     * @param commandNanos time spent in the WebDriver command(s)
+     */
+    public static void record(String page, String element, String action, long waitNanos, long commandNanos) {
+        Timing timing = THREAD_TIMINGS.get().computeIfAbsent(page + '|' + element + '|' + action, key -> new Timing());
+        timing.wait.record(waitNanos / 1_000);
+        timing.command.record(commandNanos / 1_000);
+    }
+
+    /**
+     * Merges every thread's histograms.
+     *
+     * @return one row per page/element/action, slowest total time first
+     */
+    public static List<Map<String, Object>> report() {
+        Map<String, Timing> merged = new HashMap<>();
+        for (Map<String, Timing> threadTimings : ALL_THREADS) {
+            // Only read at suite end, when worker threads no longer record
+            for (Map.Entry<String, Timing> entry : new ArrayList<>(threadTimings.entrySet())) {
+                Timing target = merged.computeIfAbsent(entry.getKey(), key -> new Timing());
+                target.wait.merge(entry.getValue().wait);
+                target.command.merge(entry.getValue().command);
+            }
+        }
+
+        List<Map.Entry<String, Timing>> rows = new ArrayList<>(merged.entrySet());
+        rows.sort(Comparator.comparingLong(
+            (Map.Entry<String, Timing> row) -> row.getValue().wait.sum() + row.getValue().command.sum()).reversed());
+
+        List<Map<String, Object>> report = new ArrayList<>();
+        for (Map.Entry<String, Timing> row : rows) {
+            String[] key = row.getKey().split("\\|", 3);
+            Map<String, Object> line = new LinkedHashMap<>();
+            line.put("page", key[0]);
+            line.put("element", key[1]);
+            line.put("action", key[2]);
+            line.put("count", row.getValue().command.count());
+            line.put("wait", summary(row.getValue().wait));
+            line.put("command", summary(row.getValue().command));
+            report.add(line);
+        }
+        return report;
+    }
+
+    private static Map<String, Object> summary(LatencyHistogram histogram) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("p50Ms", millis(histogram.percentile(50)));
+        summary.put("p95Ms", millis(histogram.percentile(95)));
+        summary.put("maxMs", millis(histogram.max()));
+        summary.put("totalMs", millis(histogram.sum()));
+        return summary;
+    }
+
+    private static double millis(long micros) {
+        return Math.round(micros / 100.0) / 10.0;
+    }
+}
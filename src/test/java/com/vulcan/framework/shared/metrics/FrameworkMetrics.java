@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.shared.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * FrameworkMetrics counts and times the key framework events of a run and renders them
+ * in the OpenMetrics text format (also readable by Prometheus and the node_exporter textfile collector).
+ *
+ * - Every metric is a histogram in seconds, so each one gives a count (_count), a total time (_sum)
+ *   and a latency distribution (_bucket) per label set.
+ * - Labels are kept low-cardinality on purpose (no URLs, element or scenario names).
+ * - Recording is lock-free (LongAdder/DoubleAdder) and safe from any thread.
+ * - Exported by MetricsPlugin to build/reports/vulcan/&lt;suite&gt;/metrics.prom and, with metrics.port,
+ *   served live by {@link MetricsEndpoint}.
+ */
+public final class FrameworkMetrics {
+
+    /** Upper bounds (seconds) shared by every histogram: from fast waits to slow browser launches. */
+    private static final double[] BUCKETS = {
+        0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60
+    };
+
+    private static final List<Histogram> FAMILIES = new ArrayList<>();
+
+    public static final Histogram SCENARIOS = histogram(
+        "vulcan_scenario_seconds", "Finished scenarios by status.", "status");
+    public static final Histogram STEPS = histogram(
+        "vulcan_step_seconds", "Finished Gherkin steps by status.", "status");
+    public static final Histogram DRIVER_OPERATIONS = histogram(
+        "vulcan_driver_operation_seconds",
+        "WebDriver sessions created (launches), recycled into the pool (reuses) and quit.",
+        "operation", "browser");
+    public static final Histogram API_REQUESTS = histogram(
+        "vulcan_api_request_seconds", "API requests by method and response status.", "method", "status");
+    public static final Histogram WAITS = histogram(
+        "vulcan_wait_seconds", "Explicit waits by outcome (satisfied, timeout, error).", "outcome");
+    public static final Histogram CLEANUP_ACTIONS = histogram(
+        "vulcan_cleanup_action_seconds", "DataRegistry cleanup actions by outcome.", "outcome");
+    public static final Histogram TEARDOWN_STAGES = histogram(
+        "vulcan_teardown_stage_seconds", "Scenario teardown stages by outcome (ok, error, timeout).",
+        "stage", "outcome");
+
+    private FrameworkMetrics() {
+        // Utility class: prevent instantiation
+    }
+
+    private static Histogram histogram(String name, String help, String... labelNames) {
+        Histogram histogram = new Histogram(name, help, labelNames);
+        FAMILIES.add(histogram);
+        return histogram;
+    }
+
+    /** @return every metric in the OpenMetrics text format, terminated by "# EOF" */
+    public static String render() {
+        StringBuilder out = new StringBuilder(4096);
+        for (Histogram family : FAMILIES) {
+            family.render(out);
+        }
+        return out.append("# EOF\n").toString();
+    }
+
+    /** Writes {@link #render()} to {@code file}, replacing it atomically (scrapers never see a partial file). */
+    public static void export(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(tmp, render().getBytes(StandardCharsets.UTF_8));
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /** One metric family: a histogram per combination of label values. */
+    public static final class Histogram {
+
+        private final String name;
+        private final String help;
+        private final String[] labelNames;
+        private final Map<List<String>, Series> series = new ConcurrentHashMap<>();
+
+        private Histogram(String name, String help, String... labelNames) {
+            this.name = name;
+            this.help = help;
+            this.labelNames = labelNames;
+        }
+
+        /**
+         * Records one observation.
+         *
+         * @param nanos       elapsed time in nanoseconds
+         * @param labelValues one value per label name, in declaration order
+         */
+        public void observeNanos(long nanos, String... labelValues) {
+            observe(nanos / 1_000_000_000d, labelValues);
+        }
+
+        /** Same as {@link #observeNanos}, with the elapsed time in seconds. */
+        public void observe(double seconds, String... labelValues) {
+            if (labelValues.length != labelNames.length) {
+                throw new IllegalArgumentException(name + " expects labels " + Arrays.toString(labelNames));
+            }
+            series.computeIfAbsent(Arrays.asList(labelValues.clone()), key -> new Series()).observe(seconds);
+        }
+
+        private void render(StringBuilder out) {
+            out.append("# TYPE ").append(name).append(" histogram\n");
+            out.append("# UNIT ").append(name).append(" seconds\n");
+            out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+
+            List<Map.Entry<List<String>, Series>> rows = new ArrayList<>(series.entrySet());
+            rows.sort((a, b) -> String.join("\u0000", a.getKey()).compareTo(String.join("\u0000", b.getKey())));
+
+            for (Map.Entry<List<String>, Series> row : rows) {
+                String labels = labels(row.getKey());
+                Series s = row.getValue();
+                // Read count first: buckets may only grow past it while rendering, never fall behind
+                long count = s.count.sum();
+                long cumulative = 0;
+                for (int i = 0; i < BUCKETS.length; i++) {
+                    cumulative += s.buckets[i].sum();
+                    sample(out, name + "_bucket", labels, "le=\"" + BUCKETS[i] + "\"", Long.toString(Math.min(cumulative, count)));
+                }
+                sample(out, name + "_bucket", labels, "le=\"+Inf\"", Long.toString(count));
+                sample(out, name + "_count", labels, null, Long.toString(count));
+                sample(out, name + "_sum", labels, null, Double.toString(s.sum.sum()));
+            }
+        }
+
+        private String labels(List<String> values) {
+            StringBuilder labels = new StringBuilder();
+            for (int i = 0; i < labelNames.length; i++) {
+                if (i > 0) {
+                    labels.append(',');
+                }
+                labels.append(labelNames[i]).append("=\"").append(escape(values.get(i))).append('"');
+            }
+            return labels.toString();
+        }
+
+        private static void sample(StringBuilder out, String metric, String labels, String extraLabel, String value) {
+            out.append(metric);
+            if (!labels.isEmpty() || extraLabel != null) {
+                out.append('{').append(labels);
+                if (extraLabel != null) {
+                    out.append(labels.isEmpty() ? "" : ",").append(extraLabel);
+                }
+                out.append('}');
+            }
+            out.append(' ').append(value).append('\n');
+        }
+
+        private static String escape(String value) {
+            if (value == null) {
+                return "";
+            }
+            return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+        }
+    }
+
+    /** Counters of one label set. Buckets are per-bound (not cumulative) to keep observe() to one increment. */
+    private static final class Series {
+        private final LongAdder[] buckets = new LongAdder[BUCKETS.length];
+        private final LongAdder count = new LongAdder();
+        private final DoubleAdder sum = new DoubleAdder();
+
+        private Series() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        private void observe(double seconds) {
+            for (int i = 0; i < BUCKETS.length; i++) {
+                if (seconds <= BUCKETS[i]) {
+                    buckets[i].increment();
+                    break;
+                }
+            }
+            sum.add(seconds);
+            count.increment();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.shared.metrics;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Serves {@link FrameworkMetrics} on http://127.0.0.1:&lt;port&gt;/metrics while the run is in progress.
+ *
+ * - Loopback only: meant for a local Prometheus / agent on the CI machine, not for remote access.
+ * - Started and stopped by MetricsPlugin when metrics.port is set (0 = off).
+ */
+public final class MetricsEndpoint {
+
+    private static final Logger logger = LogManager.getLogger(MetricsEndpoint.class);
+    private static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+
+    private static HttpServer server;
+
+    private MetricsEndpoint() {
+        // Utility class: prevent instantiation
+    }
+
+    /** Starts the endpoint. A port already in use is logged; the run continues without it. */
+    public static synchronized void start(int port) {
+        if (server != null) {
+            return;
+        }
+        try {
+            HttpServer created = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            created.createContext("/metrics", exchange -> {
+                try {
+                    if (!"GET".equals(exchange.getRequestMethod())) {
+                        exchange.sendResponseHeaders(405, -1);
+                        return;
+                    }
+                    byte[] body = FrameworkMetrics.render().getBytes(StandardCharsets.UTF_8);
+                    exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+                    exchange.sendResponseHeaders(200, body.length);
+                    try (OutputStream out = exchange.getResponseBody()) {
+                        out.write(body);
+                    }
+                } finally {
+                    exchange.close();
+                }
+            });
+            created.start();
+            server = created;
+            logger.info("Metrics endpoint started | url=http://{}:{}/metrics",
+                created.getAddress().getHostString(), created.getAddress().getPort());
+        } catch (IOException e) {
+            logger.warn("Could not start metrics endpoint on port {}: {}", port, e.getMessage());
+        }
+    }
+
+    /** Stops the endpoint (no-op when it was not started). */
+    public static synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.shared.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * RunMetrics records machine-readable measurements of a test run as JSON lines.
+ *
+ * - One file per stream: <reports dir>/<stream>.jsonl (e.g. session-health.jsonl)
+ * - The reports dir comes from the vulcan.reports.dir system property
+ *   (set per suite by Gradle: build/reports/vulcan/<suite>), default build/reports/vulcan.
+ * - Safe to call from any thread; a failing write is logged and never breaks a scenario.
+ */
+public final class RunMetrics {
+
+    private static final Logger logger = LogManager.getLogger(RunMetrics.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final Map<String, BufferedWriter> WRITERS = new ConcurrentHashMap<>();
+
+    private RunMetrics() {
+        // Utility class: prevent instantiation
+    }
+
+    /** @return the directory where run metrics and other run artifacts are written */
+    public static Path reportsDir() {
+        return Paths.get(System.getProperty("vulcan.reports.dir", "build/reports/vulcan"));
+    }
+
+    /**
+     * Appends one record to a stream. A "ts" field (epoch millis) is added first.
+     *
+     * @param stream file name without extension
+     * @param fields record fields (kept in insertion order)
+     */
+    public static void record(String stream, Map<String, ?> fields) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("ts", System.currentTimeMillis());
+        line.putAll(fields);
+        try {
+            String json = MAPPER.writeValueAsString(line);
+            BufferedWriter writer = WRITERS.computeIfAbsent(stream, RunMetrics::open);
+            if (writer == null) {
+                return;
+            }
+            synchronized (writer) {
+                writer.write(json);
+                writer.newLine();
+                writer.flush();
+            }
+        } catch (IOException e) {
+            logger.warn("Could not record run metric '{}': {}", stream, e.getMessage());
+        }
+    }
+
+    private static BufferedWriter open(String stream) {
+        Path file = reportsDir().resolve(stream + ".jsonl");
+        try {
+            Files.createDirectories(file.getParent());
+            return Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            logger.warn("Could not open run metrics file {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.shared.metrics;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.listener.TestLifecycleListener;
+import io.qameta.allure.model.FixtureResult;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * SuiteAttachments publishes suite-level artifacts (reports computed at the end of the run)
+ * in the Allure report.
+ *
+ * Allure attachments need a running test or fixture, and none is running when the suite finishes.
+ * Each artifact is written as a tear-down fixture of a container whose children are the scenarios
+ * this JVM reported, so it shows up under their "Tear down" section without adding tests to the
+ * report (no extra passed results in the totals).
+ *
+ * The scenarios are collected by {@link ReportedTests}, an Allure TestLifecycleListener registered in
+ * META-INF/services. When no scenario was reported, nothing is published (the caller's JSON file
+ * under build/reports/vulcan is still there).
+ */
+public final class SuiteAttachments {
+
+    private static final Logger logger = LogManager.getLogger(SuiteAttachments.class);
+
+    private static final Set<String> REPORTED = ConcurrentHashMap.newKeySet();
+
+    private SuiteAttachments() {
+        // Utility class: prevent instantiation
+    }
+
+    /** Records the uuid of every test result Allure writes in this JVM. */
+    public static final class ReportedTests implements TestLifecycleListener {
+        @Override
+        public void afterTestWrite(TestResult result) {
+            REPORTED.add(result.getUuid());
+        }
+    }
+
+    /**
+     * Forgets the scenarios reported so far: the next artifacts belong to the scenarios run after this call.
+     * For JVMs running several Cucumber runs (distributed Worker batches).
+     */
+    public static void startRun() {
+        REPORTED.clear();
+    }
+
+    /**
+     * @param name      report name (fixture and attachment name in Allure)
+     * @param type      MIME type of the content (e.g. "application/json")
+     * @param extension file extension including the dot (e.g. ".json")
+     * @param content   attachment bytes
+     */
+    public static void attach(String name, String type, String extension, byte[] content) {
+        List<String> children = new ArrayList<>(REPORTED);
+        if (children.isEmpty()) {
+            logger.debug("No scenario reported to Allure; suite attachment '{}' not published", name);
+            return;
+        }
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String containerUuid = UUID.randomUUID().toString();
+        String fixtureUuid = UUID.randomUUID().toString();
+        try {
+            lifecycle.startTestContainer(new TestResultContainer()
+                .setUuid(containerUuid)
+                .setName(name)
+                .setChildren(children));
+            lifecycle.startTearDownFixture(containerUuid, fixtureUuid, new FixtureResult()
+                .setName(name)
+                .setStatus(Status.PASSED));
+            lifecycle.addAttachment(name, type, extension, content);
+            lifecycle.stopFixture(fixtureUuid);
+            lifecycle.stopTestContainer(containerUuid);
+            lifecycle.writeTestContainer(containerUuid);
+        } catch (Exception e) {
+            logger.warn("Could not publish suite attachment '{}': {}", name, e.getMessage());
+        }
+    }
+}
@@ -11,6 +11,7 @@
 
 package com.vulcan.framework.steps.api;
 
+import com.vulcan.framework.shared.context.ApiClients;
 import com.vulcan.framework.shared.context.ScenarioContext;
 import com.vulcan.framework.shared.context.DataRegistry;
 import com.vulcan.framework.shared.context.ScenarioKeys;
@@ -35,14 +36,18 @@ import org.apache.logging.log4j.Logger;
 public class HealthSteps {
     
     private static final Logger logger = LogManager.getLogger(HealthSteps.class);
-    private final HealthApiClient healthApiClient = new HealthApiClient();
+
+    /** Resolved on demand: glue instantiation must not build clients. */
+    private HealthApiClient healthApiClient() {
+        return ApiClients.get(HealthApiClient.class, HealthApiClient::new);
+    }
 
     @When("I call the API health endpoint")
     public void i_call_the_api_health_endpoint() {
         
         // Call GET / and store the response for later assertions
         logger.info("Calling the API Health endpoint");
-        Response response = healthApiClient.getRoot();
+        Response response = healthApiClient().getRoot();
         ScenarioContext.put(ScenarioKeys.LAST_API_RESPONSE, response);
 
         //Get or create the DataRegistry for this scenario
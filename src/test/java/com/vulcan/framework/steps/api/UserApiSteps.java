@@ -13,7 +13,7 @@ package com.vulcan.framework.steps.api;
 
 import com.vulcan.framework.api.assertions.ApiAssertions;
 import com.vulcan.framework.api.client.UserApiClient;
-import com.vulcan.framework.shared.context.ApiClientRegistry;
+import com.vulcan.framework.shared.context.ApiClients;
 import com.vulcan.framework.shared.context.ScenarioContext;
 import com.vulcan.framework.shared.context.ScenarioKeys;
 
@@ -27,8 +27,8 @@ import org.apache.logging.log4j.Logger;
 /**
  * User API steps.
  *
- * Per-scenario lifecycle:
- * - The UserApiClient is obtained from ApiClientRegistry stored in ScenarioContext.
+ * Client lifecycle:
+ * - The UserApiClient is obtained from ApiClients, using the scope the client declares.
  * - The last API response is stored under ScenarioKeys.LAST_API_RESPONSE.
  */
 public class UserApiSteps {
@@ -36,12 +36,7 @@ public class UserApiSteps {
     private static final Logger logger = LogManager.getLogger(UserApiSteps.class);
 
     private UserApiClient userClient() {
-        ApiClientRegistry registry = ScenarioContext.getOrCreate(
-            ScenarioKeys.API_CLIENT_REGISTRY,
-            ApiClientRegistry.class,
-            ApiClientRegistry::new
-        );
-        return registry.get(UserApiClient.class, UserApiClient::new);
+        return ApiClients.get(UserApiClient.class, UserApiClient::new);
     }
 
     @When("I request the user with id {string}")
@@ -30,24 +30,42 @@ import io.cucumber.java.en.When;
 
 
 public class LoginSteps {    
-    private final LoginPage loginPage = new LoginPage();
-    private final LoginActions loginActions = new LoginActions(loginPage);
+    /*
+     * Page objects are created on first use, not when Cucumber instantiates the glue:
+     * creating a page starts the browser (see BrowserLifecycle).
+     */
+    private LoginPage loginPage;
+    private LoginActions loginActions;
+
+    private LoginPage loginPage() {
+        if (loginPage == null) {
+            loginPage = new LoginPage();
+        }
+        return loginPage;
+    }
+
+    private LoginActions loginActions() {
+        if (loginActions == null) {
+            loginActions = new LoginActions(loginPage());
+        }
+        return loginActions;
+    }
         
     @Given("I am on the login page")
     public void i_am_on_the_login_page() {
-        // Keep this minimal. Hooks already navigates to ui.baseUrl.
-        // Optionally later: loginPage.open();
+        // First browser use in the scenario: starts the session and navigates to ui.baseUrl.
+        loginPage();
     }
     @Then("the login form is displayed")
     public void i_should_see_the_login_form() {
-        UiAssertions.assertLoginFormVisible(loginPage);
+        UiAssertions.assertLoginFormVisible(loginPage());
     }
     @When("I log in as role {string}")
     public void i_log_in_as_role(String roleName) {
         Credentials credentials = Credentials.byRole(roleName);
         // Store for later steps (UI and/or API)
         ScenarioContext.put(ScenarioKeys.CREDENTIALS, credentials);
-        loginActions.login(credentials.username(), credentials.password());
+        loginActions().login(credentials.username(), credentials.password());
     }
 
     /**
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.steps.ui;
+
+import com.vulcan.framework.ui.pages.BasePage;
+import com.vulcan.framework.ui.pages.InventoryPage;
+import com.vulcan.framework.ui.pages.LoginPage;
+import com.vulcan.framework.ui.performance.PageMetrics;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import io.cucumber.java.en.Then;
+
+/**
+ * Front-end performance budgets.
+ *
+ * Examples:
+ *   Then the products page LCP should be below 2500 ms
+ *   Then the login page TTFB should be below 800 ms
+ *   Then the products page CLS should be below 0.1
+ *
+ * Metrics a browser does not report (e.g. LCP on Firefox) skip the step instead of failing it.
+ */
+public class PerformanceSteps {
+
+    @Then("the {word} page {word} should be below {int} ms")
+    public void the_page_metric_should_be_below_ms(String page, String metric, int budgetMs) {
+        assertBelow(page, metric, budgetMs, "ms");
+    }
+
+    @Then("the {word} page CLS should be below {double}")
+    public void the_page_cls_should_be_below(String page, Double budget) {
+        assertBelow(page, "cls", budget, "");
+    }
+
+    private void assertBelow(String page, String metric, double budget, String unit) {
+        PageMetrics metrics = pageObject(page).get().performance();
+        Double value = metrics.metric(metric);
+        assumeTrue(metric + " is not reported by this browser for " + metrics.page(), value != null);
+        assertTrue(
+            String.format(Locale.ROOT, "%s %s was %s%s, budget %s%s (url=%s)",
+                metrics.page(), metric, value, unit, budget, unit, metrics.url()),
+            value < budget);
+    }
+
+    /** Maps the page name used in features to its page object. */
+    private Supplier<BasePage> pageObject(String page) {
+        switch (page.toLowerCase(Locale.ROOT)) {
+            case "login":
+                return LoginPage::new;
+            case "products":
+            case "inventory":
+                return InventoryPage::new;
+            default:
+                throw new IllegalArgumentException("Unknown page for performance budget: " + page);
+        }
+    }
+}
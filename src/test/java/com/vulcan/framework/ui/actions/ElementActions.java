@@ -12,6 +12,12 @@
 package com.vulcan.framework.ui.actions;
 
 import com.vulcan.framework.core.WaitUtils;
+import com.vulcan.framework.shared.jfr.CurrentScenario;
+import com.vulcan.framework.shared.jfr.UiActionEvent;
+import com.vulcan.framework.shared.metrics.ActionTimings;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -34,18 +40,29 @@ public class ElementActions {
 
     private final WaitUtils wait;
 
+    /** Page name used to group action timings (ActionTimings). */
+    private final String pageName;
+
     public ElementActions(WaitUtils wait) {
+        this(wait, "unknown-page");
+    }
+
+    public ElementActions(WaitUtils wait, String pageName) {
         if (wait == null) {
             throw new IllegalArgumentException("wait cannot be null");
         }
         this.wait = wait;
+        this.pageName = pageName;
     }
 
     /** Click with a friendly element name for logs. */
     public void click(WebElement element, String name) {
         String safeName = normalizeName(name);
         logger.info("UI ACTION | click | element='{}'", safeName);
-        wait.waitForClickable(element).click();
+        perform(safeName, "click", () -> wait.waitForClickable(element), clickable -> {
+            clickable.click();
+            return null;
+        });
     }
 
     /** Type text into an element (with masking if it's sensitive). */
@@ -57,9 +74,11 @@ public class ElementActions {
                 safeName,
                 sensitive ? "<masked>" : String.valueOf(value));
 
-        WebElement visible = wait.waitForVisible(element);
-        visible.clear();
-        visible.sendKeys(value);
+        perform(safeName, "type", () -> wait.waitForVisible(element), visible -> {
+            visible.clear();
+            visible.sendKeys(value);
+            return null;
+        });
     }
 
     /** Explicit “sensitive” typing: always masked, even if name doesn't contain password. */
@@ -67,16 +86,17 @@ public class ElementActions {
         String safeName = normalizeName(name);
         logger.info("UI ACTION | typeSensitive | element='{}' | value=<masked>", safeName);
 
-        WebElement visible = wait.waitForVisible(element);
-        visible.clear();
-        visible.sendKeys(value);
+        perform(safeName, "type", () -> wait.waitForVisible(element), visible -> {
+            visible.clear();
+            visible.sendKeys(value);
+            return null;
+        });
     }
 
     /** Returns text after waiting for visibility. */
     public String getText(WebElement element, String name) {
         String safeName = normalizeName(name);
-        WebElement visible = wait.waitForVisible(element);
-        String text = visible.getText();
+        String text = perform(safeName, "getText", () -> wait.waitForVisible(element), WebElement::getText);
         logger.info("UI ACTION | getText | element='{}' | text='{}'", safeName, text);
         return text;
     }
@@ -85,7 +105,7 @@ public class ElementActions {
     public boolean isDisplayed(WebElement element, String name) {
         String safeName = normalizeName(name);
         try {
-            boolean displayed = element.isDisplayed();
+            boolean displayed = perform(safeName, "isDisplayed", () -> element, WebElement::isDisplayed);
             logger.info("UI ACTION | isDisplayed | element='{}' | displayed={}", safeName, displayed);
             return displayed;
         } catch (Exception e) {
@@ -95,6 +115,44 @@ public class ElementActions {
         }
     }
 
+    /**
+     * Runs one action: waits for the element, then runs the driver command on it.
+     *
+     * Instrumentation:
+     * - ActionTimings: wait time and command time of successful actions
+     * - JFR: one UiActionEvent per action (when a recording is running), failed ones included
+     */
+    private <T> T perform(String elementName, String action, Supplier<WebElement> waitFor, Function<WebElement, T> command) {
+        UiActionEvent event = new UiActionEvent();
+        event.begin();
+        long start = System.nanoTime();
+        long waitNanos = -1;
+        boolean succeeded = false;
+        try {
+            WebElement ready = waitFor.get();
+            long waited = System.nanoTime();
+            waitNanos = waited - start;
+            T result = command.apply(ready);
+            succeeded = true;
+            if (ActionTimings.isEnabled()) {
+                ActionTimings.record(pageName, elementName, action, waitNanos, System.nanoTime() - waited);
+            }
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.scenario = CurrentScenario.get();
+                event.page = pageName;
+                event.element = elementName;
+                event.action = action;
+                // A failed wait spent the whole action waiting
+                event.waitTime = waitNanos >= 0 ? waitNanos : System.nanoTime() - start;
+                event.succeeded = succeeded;
+                event.commit();
+            }
+        }
+    }
+
     private String normalizeName(String name) {
         if (name == null || name.trim().isEmpty()) return "unknown-element";
         return name.trim();
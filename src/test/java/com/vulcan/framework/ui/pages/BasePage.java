@@ -15,19 +15,27 @@ import com.vulcan.framework.config.ConfigManager;
 import com.vulcan.framework.core.DriverFactory;
 import com.vulcan.framework.core.WaitUtils;
 import com.vulcan.framework.ui.actions.ElementActions;
+import com.vulcan.framework.ui.performance.PageMetrics;
+import com.vulcan.framework.ui.performance.WebPerformance;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocatorFactory;
 
 /**
  * BasePage is the parent class for all Page Objects.
  *
  * Responsibilities:
  * - Obtain WebDriver from DriverFactory
- * - Initialize @FindBy elements using PageFactory
+ * - Initialize @FindBy elements using PageFactory (cached, stale-resilient proxies)
+ * - Wait for the page's own readiness condition (readyLocator()) instead of the full page load
+ * - Capture web performance per page (ui.perf.capture=true, or on demand via performance())
  * - Provide stable, logged UI interactions via ElementActions + explicit waits
  *
  * Notes:
@@ -55,12 +63,77 @@ public abstract class BasePage {
 
         // Reuse your existing ui.implicitWait as a simple "explicit wait timeout" for now.
         // Later you can introduce ui.explicitWait without touching pages.
-        int timeoutSeconds = Integer.parseInt(ConfigManager.getInstance().get("ui.implicitWait"));
+        int timeoutSeconds = ConfigManager.getInstance().intValue("ui.implicitWait");
 
         this.wait = new WaitUtils(driver, timeoutSeconds);
-        this.actions = new ElementActions(wait);
+        this.actions = new ElementActions(wait, getClass().getSimpleName());
+
+        initElements();
+
+        awaitReady();
+
+        if (ConfigManager.getInstance().booleanValue("ui.perf.capture", false)) {
+            performance();
+        }
+    }
+
+    /**
+     * Web performance of the document this page is on (Navigation/Resource Timing, LCP, CLS, long tasks).
+     * Captured once per page object per scenario and attached to the Allure report.
+     */
+    public PageMetrics performance() {
+        String pageName = getClass().getSimpleName();
+        PageMetrics metrics = WebPerformance.lastCaptured(pageName);
+        return metrics != null ? metrics : WebPerformance.capture(driver, pageName);
+    }
+
+    /**
+     * Initializes @FindBy fields. With ui.elementCache.enabled=true (default), elements are
+     * resolved once per page instance and re-resolved on staleness (ResilientElementDecorator).
+     */
+    private void initElements() {
+        if (ConfigManager.getInstance().booleanValue("ui.elementCache.enabled", true)) {
+            PageFactory.initElements(
+                new ResilientElementDecorator(new DefaultElementLocatorFactory(driver), getClass().getSimpleName()),
+                this);
+        } else {
+            PageFactory.initElements(driver, this);
+        }
+    }
 
-        PageFactory.initElements(driver, this);
+    /**
+     * The element that proves this page is usable (e.g. the inventory container).
+     *
+     * With ui.pageLoadStrategy=eager|none, navigation returns before the page has fully loaded;
+     * waiting for this locator is what completes the navigation for the page object.
+     * Return null (default) to skip the readiness wait.
+     *
+     * Called from the BasePage constructor: return a constant, never a subclass field.
+     */
+    protected By readyLocator() {
+        return null;
+    }
+
+    /**
+     * Waits (up to the page timeout) for {@link #readyLocator()}.
+     * Never throws: page checks such as isLoaded() report the actual state.
+     *
+     * @return true if the page is ready (or declares no readiness condition)
+     */
+    protected boolean awaitReady() {
+        By ready = readyLocator();
+        if (ready == null) {
+            return true;
+        }
+        long start = System.nanoTime();
+        boolean isReady = wait.waitForReady(ready);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (isReady) {
+            logger.debug("UI READY | locator={} | waited={}ms", ready, elapsedMs);
+        } else {
+            logger.warn("UI NOT READY | locator={} | waited={}ms", ready, elapsedMs);
+        }
+        return isReady;
     }
 
     // ---------------------------
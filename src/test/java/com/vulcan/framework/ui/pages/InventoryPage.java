@@ -12,11 +12,15 @@
 
 package com.vulcan.framework.ui.pages;
 
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 
 public class InventoryPage extends BasePage {
 
+    /** The products grid: usable as soon as it is visible, images may still be loading. */
+    private static final By READY = By.id("inventory_container");
+
     @FindBy(id = "inventory_container")
     private WebElement inventoryContainer;
 
@@ -28,6 +32,11 @@ public class InventoryPage extends BasePage {
         logger.info("InventoryPage initialized");
     }
 
+    @Override
+    protected By readyLocator() {
+        return READY;
+    }
+
     /**
      * Return true if we are on the Product page.
      * Uses stable UI signals instead of sleeps.
@@ -11,6 +11,7 @@
 
 package com.vulcan.framework.ui.pages;
 
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 
@@ -23,6 +24,8 @@ import org.openqa.selenium.support.FindBy;
  */
 public class LoginPage extends BasePage {
 
+    private static final By READY = By.id("login-button");
+
     @FindBy(id = "user-name")
     private WebElement usernameField;
 
@@ -37,6 +40,11 @@ public class LoginPage extends BasePage {
         logger.info("LoginPage initialized");
     }
 
+    @Override
+    protected By readyLocator() {
+        return READY;
+    }
+
     public void enterUsername(String username) {
         type(usernameField, "usernameField", username);
     }
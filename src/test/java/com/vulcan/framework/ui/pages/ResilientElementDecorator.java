@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.ui.pages;
+
+import com.vulcan.framework.shared.metrics.RunMetrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.pagefactory.DefaultFieldDecorator;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocatorFactory;
+
+/**
+ * ResilientElementDecorator replaces the default @FindBy proxies of a page instance.
+ *
+ * Default PageFactory proxies call findElement before EVERY interaction (one extra WebDriver
+ * round trip each time). These proxies instead:
+ * - resolve the element on first use and keep the reference for the page instance
+ * - on StaleElementReferenceException (DOM re-render), re-resolve once and retry the call
+ *   transparently; a second staleness is thrown as usual
+ * - record each stale recovery in the "stale-elements" run metrics stream
+ *
+ * Only single WebElement fields are cached; List<WebElement> fields keep the default behavior.
+ */
+public class ResilientElementDecorator extends DefaultFieldDecorator {
+
+    private static final Logger logger = LogManager.getLogger(ResilientElementDecorator.class);
+
+    private final String pageName;
+
+    public ResilientElementDecorator(ElementLocatorFactory factory, String pageName) {
+        super(factory);
+        this.pageName = pageName;
+    }
+
+    @Override
+    protected WebElement proxyForLocator(ClassLoader loader, ElementLocator locator) {
+        return (WebElement) Proxy.newProxyInstance(
+            loader,
+            new Class<?>[] {WebElement.class, WrapsElement.class, Locatable.class},
+            new CachingHandler(locator, pageName));
+    }
+
+    /** Holds the resolved element for one field of one page instance. */
+    private static final class CachingHandler implements InvocationHandler {
+        private final ElementLocator locator;
+        private final String pageName;
+        private WebElement element;
+
+        CachingHandler(ElementLocator locator, String pageName) {
+            this.locator = locator;
+            this.pageName = pageName;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("toString".equals(method.getName()) && method.getParameterCount() == 0) {
+                return "Proxy element for: " + locator;
+            }
+            if ("getWrappedElement".equals(method.getName())) {
+                return resolve();
+            }
+
+            WebElement target = resolve();
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                if (!(e.getCause() instanceof StaleElementReferenceException)) {
+                    throw e.getCause();
+                }
+            }
+
+            // The DOM re-rendered: look the element up once more and retry
+            logger.debug("Stale element re-resolved | page={} | locator={} | method={}", pageName, locator, method.getName());
+            recordRecovery(method.getName());
+            synchronized (this) {
+                element = null;
+            }
+            try {
+                return method.invoke(resolve(), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private synchronized WebElement resolve() {
+            if (element != null) {
+                return element;
+            }
+            element = locator.findElement();
+            return element;
+        }
+
+        private void recordRecovery(String methodName) {
+            Map<String, Object> fields = new LinkedHashMap<>();
+            fields.put("page", pageName);
+            fields.put("locator", locator.toString());
+            fields.put("method", methodName);
+            RunMetrics.record("stale-elements", fields);
+        }
+    }
+}
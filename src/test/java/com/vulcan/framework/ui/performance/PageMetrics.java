@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.ui.performance;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * PageMetrics is an immutable snapshot of the browser's performance data for one page.
+ *
+ * Keys (times in ms since navigation start, null when the browser does not report them):
+ * - ttfb, fcp, lcp, domContentLoaded, load
+ * - cls (unitless layout shift score)
+ * - longTasks, longTaskTime
+ * - resources, transferBytes, slowestResource, slowestResourceMs
+ *
+ * Metrics describe the current DOCUMENT: client-side (SPA) route changes do not start
+ * a new navigation, so they report the timings of the document that was loaded.
+ */
+public final class PageMetrics {
+
+    private final String page;
+    private final Map<String, Object> values;
+
+    public PageMetrics(String page, Map<String, Object> values) {
+        this.page = page;
+        this.values = Collections.unmodifiableMap(new LinkedHashMap<>(values));
+    }
+
+    public String page() {
+        return page;
+    }
+
+    public String url() {
+        return String.valueOf(values.get("url"));
+    }
+
+    /**
+     * Numeric metric by name, case-insensitive (e.g. "LCP", "ttfb", "domContentLoaded").
+     *
+     * @return the value, or null when the metric is unknown or not reported by the browser
+     */
+    public Double metric(String name) {
+        String wanted = name.toLowerCase(Locale.ROOT);
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            if (entry.getKey().toLowerCase(Locale.ROOT).equals(wanted)) {
+                return entry.getValue() instanceof Number ? ((Number) entry.getValue()).doubleValue() : null;
+            }
+        }
+        return null;
+    }
+
+    /** @return all raw values (insertion order), e.g. for reporting */
+    public Map<String, Object> asMap() {
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return "PageMetrics{page=" + page + ", " + values + "}";
+    }
+}
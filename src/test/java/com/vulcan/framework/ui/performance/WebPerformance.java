@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2025 cpmn.tech
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at
+ * https://opensource.org/licenses/MIT
+ *
+ * This file is part of the VulcanTestFramework project.
+ * A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+ */
+
+package com.vulcan.framework.ui.performance;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vulcan.framework.config.ConfigManager;
+import com.vulcan.framework.shared.context.ScenarioContext;
+import com.vulcan.framework.shared.context.ScenarioKeys;
+
+import io.qameta.allure.Allure;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * WebPerformance reads Navigation Timing, Resource Timing, Core Web Vitals (LCP, CLS)
+ * and long tasks from the browser.
+ *
+ * How it works:
+ * - An async script registers PerformanceObservers with buffered=true, so entries recorded
+ *   BEFORE the injection (since navigation start) are delivered too.
+ * - After ui.perf.settle (default 250ms) it flushes the observers and returns a summary.
+ * - The result is attached to the current Allure step as JSON and kept in the ScenarioContext
+ *   (ScenarioKeys.WEB_PERFORMANCE) per page, for assertion steps.
+ *
+ * Must run on the scenario thread (Allure and ScenarioContext are thread-bound).
+ * Browsers that do not support an entry type report null for it (e.g. LCP on Firefox).
+ */
+public final class WebPerformance {
+
+    private static final Logger logger = LogManager.getLogger(WebPerformance.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String COLLECT_SCRIPT =
+        "var done = arguments[arguments.length - 1];"
+        + "var settleMs = arguments[0];"
+        + "var supported = (window.PerformanceObserver && PerformanceObserver.supportedEntryTypes) || [];"
+        + "var lcp = null, cls = supported.indexOf('layout-shift') >= 0 ? 0 : null, longTasks = 0, longTaskTime = 0;"
+        + "var observers = [];"
+        + "function observe(type, onEntry) {"
+        + "  if (supported.indexOf(type) < 0) { return; }"
+        + "  try {"
+        + "    var po = new PerformanceObserver(function (list) { list.getEntries().forEach(onEntry); });"
+        + "    po.observe({type: type, buffered: true});"
+        + "    observers.push({po: po, onEntry: onEntry});"
+        + "  } catch (e) {}"
+        + "}"
+        + "observe('largest-contentful-paint', function (e) { lcp = e.startTime; });"
+        + "observe('layout-shift', function (e) { if (!e.hadRecentInput) { cls += e.value; } });"
+        + "observe('longtask', function (e) { longTasks++; longTaskTime += e.duration; });"
+        + "setTimeout(function () {"
+        + "  observers.forEach(function (o) { (o.po.takeRecords() || []).forEach(o.onEntry); o.po.disconnect(); });"
+        + "  var nav = performance.getEntriesByType('navigation')[0];"
+        + "  var fcp = performance.getEntriesByName('first-contentful-paint')[0];"
+        + "  var resources = performance.getEntriesByType('resource');"
+        + "  var transferBytes = 0, slowest = null;"
+        + "  resources.forEach(function (r) {"
+        + "    transferBytes += r.transferSize || 0;"
+        + "    if (!slowest || r.duration > slowest.duration) { slowest = r; }"
+        + "  });"
+        + "  function ms(v) { return v === undefined || v === null || v < 0 ? null : Math.round(v); }"
+        // Navigation milestones are 0 until the event happened (e.g. load with pageLoadStrategy=eager)
+        + "  function reached(v) { return v > 0 ? Math.round(v) : null; }"
+        + "  done({"
+        + "    url: location.href,"
+        + "    ttfb: nav ? reached(nav.responseStart) : null,"
+        + "    fcp: fcp ? ms(fcp.startTime) : null,"
+        + "    lcp: ms(lcp),"
+        + "    domContentLoaded: nav ? reached(nav.domContentLoadedEventEnd) : null,"
+        + "    load: nav ? reached(nav.loadEventEnd) : null,"
+        + "    cls: cls === null ? null : Math.round(cls * 10000) / 10000,"
+        + "    longTasks: supported.indexOf('longtask') >= 0 ? longTasks : null,"
+        + "    longTaskTime: supported.indexOf('longtask') >= 0 ? ms(longTaskTime) : null,"
+        + "    resources: resources.length,"
+        + "    transferBytes: transferBytes,"
+        + "    slowestResource: slowest ? slowest.name : null,"
+        + "    slowestResourceMs: slowest ? ms(slowest.duration) : null"
+        + "  });"
+        + "}, settleMs);";
+
+    private WebPerformance() {
+        // Utility class: prevent instantiation
+    }
+
+    /**
+     * Captures the metrics of the current document, attaches them to Allure and stores them
+     * for the page.
+     *
+     * @param driver   the scenario's driver
+     * @param pageName page object name (e.g. "InventoryPage")
+     * @return the captured metrics
+     */
+    @SuppressWarnings("unchecked")
+    public static PageMetrics capture(WebDriver driver, String pageName) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            throw new IllegalStateException("Driver cannot execute JavaScript: " + driver.getClass().getSimpleName());
+        }
+        Duration settle = ConfigManager.getInstance().duration("ui.perf.settle", ChronoUnit.MILLIS, Duration.ofMillis(250));
+
+        Object raw = ((JavascriptExecutor) driver).executeAsyncScript(COLLECT_SCRIPT, settle.toMillis());
+        PageMetrics metrics = new PageMetrics(pageName, raw instanceof Map ? (Map<String, Object>) raw : new LinkedHashMap<>());
+
+        logger.info("UI PERF | page={} | ttfb={} | fcp={} | lcp={} | cls={} | longTasks={} | resources={}",
+            pageName, metrics.metric("ttfb"), metrics.metric("fcp"), metrics.metric("lcp"),
+            metrics.metric("cls"), metrics.metric("longTasks"), metrics.metric("resources"));
+
+        captured().put(pageName, metrics);
+        attach(metrics);
+        return metrics;
+    }
+
+    /**
+     * @return metrics already captured for the page in this scenario, or null
+     */
+    public static PageMetrics lastCaptured(String pageName) {
+        return captured().get(pageName);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, PageMetrics> captured() {
+        return ScenarioContext.getOrCreate(ScenarioKeys.WEB_PERFORMANCE, Map.class, LinkedHashMap::new);
+    }
+
+    private static void attach(PageMetrics metrics) {
+        try {
+            String json = MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(metrics.asMap());
+            Allure.addAttachment("Web performance - " + metrics.page(), "application/json", json, ".json");
+        } catch (JsonProcessingException e) {
+            logger.warn("Could not attach web performance for page={}: {}", metrics.page(), e.getMessage());
+        }
+    }
+}
@@ -15,6 +15,11 @@ Feature: Login
   I want to log in to the application
   So that I can access the system according to my role
 
+  @smoke @login @lite
+  Scenario: Login form is displayed
+    Given I am on the login page
+    Then the login form is displayed
+
   @smoke @login
   Scenario: Successful login as Administrator
    Given I am on the login page
@@ -0,0 +1,25 @@
+#
+# Copyright (c) 2025 cpmn.tech
+#
+# Licensed under the MIT License.
+# You may obtain a copy of the License at
+# https://opensource.org/licenses/MIT
+#
+# This file is part of the VulcanTestFramework project.
+# A QA Automation Project by Claudia Paola Muñoz (cpmn.tech)
+#
+
+Feature: Front-end performance
+
+  As a team shipping the demo application
+  I want page performance budgets checked in the UI suite
+  So that front-end regressions fail the build like functional ones
+
+  @performance
+  Scenario: Products page renders within budget
+    Given I am on the login page
+      And the login page LCP should be below 2500 ms
+    When I log in as role "STANDARD"
+    Then I should see the products page
+      And the products page TTFB should be below 1500 ms
+      And the products page CLS should be below 0.1